@@ -0,0 +1,66 @@
+package com.futurum.campaign_manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JSON serialization of {@link ApiResponse} envelopes carrying campaign lists, with
+ * an {@link ObjectMapper} configured like the application's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int campaigns;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<CampaignDTO>> response;
+
+    @Setup
+    public void setUp() {
+        // Same settings as spring.jackson.* in application.properties
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        List<CampaignDTO> page = new ArrayList<>(campaigns);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < campaigns; i++) {
+            CampaignDTO dto = new CampaignDTO();
+            dto.setId((long) i + 1);
+            dto.setCampaignName("Campaign " + i);
+            dto.setBidAmount(new BigDecimal("1.50"));
+            dto.setCampaignFund(new BigDecimal("250.00"));
+            dto.setStatus(CampaignStatus.ON);
+            dto.setRadius(25);
+            dto.setTownId(3L);
+            dto.setTownName("Paris");
+            dto.setKeywordIds(Set.of(1L, 2L, 3L));
+            dto.setKeywordTexts(Set.of("sports", "travel", "music"));
+            dto.setCreatedAt(now);
+            dto.setUpdatedAt(now);
+            page.add(dto);
+        }
+        response = ApiResponse.success("Campaigns retrieved successfully", page);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
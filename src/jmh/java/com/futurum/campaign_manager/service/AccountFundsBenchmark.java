@@ -0,0 +1,60 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.AccountBalanceDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link AccountService} fund operations used by every campaign change, with
+ * the fund ledger and embedded H2 database of the running application. Run with
+ * {@code -t 4} or more to see them under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AccountFundsBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1.25");
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("account-funds-benchmark");
+        accountService = context.getBean(AccountService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean hasEnoughFunds() {
+        return accountService.hasEnoughFunds(BenchmarkContext.ACCOUNT, AMOUNT);
+    }
+
+    /**
+     * Reserves and releases the same amount, as creating and deleting a campaign would.
+     */
+    @Benchmark
+    public boolean reserveAndRelease() {
+        boolean reserved = accountService.reserveFunds(BenchmarkContext.ACCOUNT, AMOUNT);
+        if (reserved) {
+            accountService.addFunds(BenchmarkContext.ACCOUNT, AMOUNT);
+        }
+        return reserved;
+    }
+
+    @Benchmark
+    public AccountBalanceDTO getAccountBalance() {
+        return accountService.getAccountBalance(BenchmarkContext.ACCOUNT);
+    }
+}
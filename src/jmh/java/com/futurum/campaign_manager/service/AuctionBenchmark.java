@@ -0,0 +1,92 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Town;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the auction decision of {@link AuctionService}: collecting the paced candidates that
+ * serve the keywords at a town and pricing the winner. Charging is left out so that campaigns
+ * never run out of fund during the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AuctionBenchmark {
+
+    private static final List<String> KEYWORDS = List.of("shoes", "fashion", "travel", "books", "cars");
+
+    private static final List<List<String>> REQUESTS = List.of(List.of("shoes"), List.of("fashion", "travel"),
+            List.of("books", "cars", "shoes"));
+
+    @Param({"20000", "100000"})
+    private int campaigns;
+
+    private List<Town> towns;
+    private AuctionService auctionService;
+    private AuctionCandidates candidates;
+    private int auction;
+
+    @Setup
+    public void setUp() {
+        towns = List.of(town(1L, "London", 51.5074, -0.1278), town(2L, "Paris", 48.8566, 2.3522),
+                town(3L, "Madrid", 40.4168, -3.7038));
+        CampaignMatchingIndex matchingIndex = new CampaignMatchingIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        for (long id = 1; id <= campaigns; id++) {
+            // A quarter is not location targeted; of the rest, half reach the neighbouring capitals
+            Town town = id % 4 == 0 ? null : towns.get((int) (id % towns.size()));
+            CampaignDTO dto = new CampaignDTO();
+            dto.setId(id);
+            dto.setCampaignName("Campaign " + id);
+            dto.setBidAmount(BigDecimal.valueOf(random.nextInt(5, 1000), 2));
+            dto.setCampaignFund(new BigDecimal("100.00"));
+            dto.setStatus(CampaignStatus.ON);
+            dto.setRadius(id % 2 == 0 ? 1_500 : 10);
+            dto.setTownId(town == null ? null : town.getId());
+            dto.setKeywordTexts(Set.of(KEYWORDS.get((int) (id % KEYWORDS.size())),
+                    KEYWORDS.get((int) ((id + 2) % KEYWORDS.size()))));
+            dto.setUpdatedAt(LocalDateTime.now());
+            matchingIndex.upsert(dto, town == null ? null : town.getLatitude(),
+                    town == null ? null : town.getLongitude());
+        }
+
+        // Nothing is charged, so the ledger never flushes and needs no database
+        CampaignSpendLedger spendLedger = new CampaignSpendLedger(null, null, new BigDecimal("5.00"), false);
+        BudgetPacer budgetPacer = new BudgetPacer(matchingIndex, spendLedger, Clock.systemUTC(), true,
+                3_600_000, 60_000, 100);
+        budgetPacer.replan();
+        CampaignMatchingService matchingService = new CampaignMatchingService(null, matchingIndex,
+                new CampaignGeoIndex(), null, budgetPacer);
+        auctionService = new AuctionService(matchingIndex, matchingService, null, spendLedger, budgetPacer,
+                new BigDecimal("0.05"));
+        candidates = new AuctionCandidates(AuctionService.MAX_KEYWORDS * AuctionService.CANDIDATES_PER_KEYWORD);
+    }
+
+    @Benchmark
+    public long auction() {
+        int n = auction++;
+        auctionService.collect(candidates, REQUESTS.get(n % REQUESTS.size()), towns.get(n % towns.size()));
+        long price = auctionService.clearingPrice(candidates, candidates.best());
+        candidates.clear();
+        return price;
+    }
+
+    private static Town town(Long id, String name, double latitude, double longitude) {
+        Town town = new Town(name, "00000", latitude, longitude);
+        town.setId(id);
+        return town;
+    }
+}
@@ -0,0 +1,84 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.CampaignManagerApplication;
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import com.futurum.campaign_manager.repository.TownRepository;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Starts the application without a web server against its own in-memory H2 database and
+ * fills it with benchmark data.
+ */
+final class BenchmarkContext {
+
+    static final String ACCOUNT = "Emerald Account";
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String database) {
+        return new SpringApplicationBuilder(CampaignManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                // Arguments, unlike default properties, take precedence over application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+    }
+
+    /**
+     * Adds keywords and campaigns on top of the sample data, and enough funds to create them.
+     */
+    static void seed(ConfigurableApplicationContext context, int keywords, int campaigns) {
+        KeywordRepository keywordRepository = context.getBean(KeywordRepository.class);
+        List<Keyword> created = new ArrayList<>();
+        for (int i = 0; i < keywords; i++) {
+            created.add(new Keyword("benchmark-keyword-" + i));
+        }
+        created = keywordRepository.saveAll(created);
+        context.getBean(KeywordService.class).buildSearchIndex();
+
+        List<Town> towns = context.getBean(TownRepository.class).findAll();
+        AccountService accountService = context.getBean(AccountService.class);
+        accountService.addFunds(ACCOUNT, new BigDecimal(campaigns).multiply(new BigDecimal("20.00")));
+
+        CampaignService campaignService = context.getBean(CampaignService.class);
+        List<CampaignDTO> batch = new ArrayList<>();
+        for (int i = 0; i < campaigns; i++) {
+            batch.add(campaign("Seed " + i, towns.get(i % towns.size()).getId(),
+                    created.get(i % created.size()).getId(), created.get((i * 7 + 3) % created.size()).getId()));
+            if (batch.size() == CampaignService.MAX_BULK_SIZE || i == campaigns - 1) {
+                campaignService.saveCampaigns(batch);
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    static CampaignDTO campaign(String name, Long townId, Long... keywordIds) {
+        CampaignDTO dto = new CampaignDTO();
+        dto.setCampaignName(name);
+        dto.setBidAmount(new BigDecimal("0.50"));
+        dto.setCampaignFund(new BigDecimal("10.00"));
+        dto.setStatus(CampaignStatus.ON);
+        dto.setRadius(25);
+        dto.setTownId(townId);
+        // Generated keyword ids may repeat
+        dto.setKeywordIds(new HashSet<>(Arrays.asList(keywordIds)));
+        return dto;
+    }
+}
@@ -0,0 +1,62 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.Campaign;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CampaignService#convertToDTO(Campaign)}, which every campaign read goes
+ * through, for campaigns with few and many keywords.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CampaignMappingBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int keywordsPerCampaign;
+
+    private CampaignService campaignService;
+    private Campaign campaign;
+
+    @Setup
+    public void setUp() {
+        // The mapping uses none of the collaborators
+        campaignService = new CampaignService(null, null, null, null, null, null, null, null);
+
+        Town town = new Town("London", "SW1A 1AA", 51.5074, -0.1278);
+        town.setId(1L);
+        Set<Keyword> keywords = new HashSet<>();
+        for (int i = 0; i < keywordsPerCampaign; i++) {
+            keywords.add(new Keyword(i + 1, "keyword-" + i));
+        }
+        campaign = new Campaign();
+        campaign.setId(42L);
+        campaign.setCampaignName("Benchmark campaign");
+        campaign.setBidAmount(new BigDecimal("1.50"));
+        campaign.setCampaignFund(new BigDecimal("250.00"));
+        campaign.setStatus(CampaignStatus.ON);
+        campaign.setRadius(25);
+        campaign.setTown(town);
+        campaign.setKeywords(keywords);
+        campaign.setCreatedAt(LocalDateTime.now());
+        campaign.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public CampaignDTO convertToDTO() {
+        return campaignService.convertToDTO(campaign);
+    }
+}
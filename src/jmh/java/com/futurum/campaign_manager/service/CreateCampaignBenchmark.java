@@ -0,0 +1,70 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import com.futurum.campaign_manager.repository.TownRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures {@link CampaignService#createCampaign(CampaignDTO)} end to end: validation, fund
+ * reservation, insert into the embedded H2 database and the after-commit index updates,
+ * against a database already holding the given number of campaigns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CreateCampaignBenchmark {
+
+    @Param({"10000", "100000"})
+    private int existingCampaigns;
+
+    private ConfigurableApplicationContext context;
+    private CampaignService campaignService;
+    private AccountService accountService;
+    private List<Town> towns;
+    private List<Keyword> keywords;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("create-campaign-benchmark-" + existingCampaigns);
+        BenchmarkContext.seed(context, 1_000, existingCampaigns);
+        campaignService = context.getBean(CampaignService.class);
+        accountService = context.getBean(AccountService.class);
+        towns = context.getBean(TownRepository.class).findAll();
+        keywords = context.getBean(KeywordRepository.class).findAll();
+    }
+
+    /**
+     * Keeps the account able to pay for every campaign created in the iteration.
+     */
+    @Setup(Level.Iteration)
+    public void topUp() {
+        accountService.addFunds(BenchmarkContext.ACCOUNT, new BigDecimal("10000000.00"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CampaignDTO createCampaign() {
+        long n = sequence.incrementAndGet();
+        return campaignService.createCampaign(BenchmarkContext.campaign("Created " + n,
+                towns.get((int) (n % towns.size())).getId(),
+                keywords.get((int) (n % keywords.size())).getId(),
+                keywords.get((int) ((n * 7 + 3) % keywords.size())).getId()));
+    }
+}
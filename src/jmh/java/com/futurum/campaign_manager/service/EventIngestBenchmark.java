@@ -0,0 +1,68 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.DeliveryEventDTO;
+import com.futurum.campaign_manager.model.DeliveryEventType;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DeliveryEventService#ingest(List)} for requests of growing size, with the
+ * background consumer counting the events and writing rollups to the embedded H2 database.
+ * A full buffer is retried, so the score includes waiting for the consumer. Run with
+ * {@code -t 4} or more to see concurrent producers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventIngestBenchmark {
+
+    @Param({"1", "1000"})
+    private int eventsPerRequest;
+
+    private ConfigurableApplicationContext context;
+    private DeliveryEventService deliveryEventService;
+    private List<DeliveryEventDTO> request;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("event-ingest-benchmark-" + eventsPerRequest);
+        context.getBean(AccountService.class).addFunds(BenchmarkContext.ACCOUNT, new BigDecimal("10.00"));
+        Long keywordId = context.getBean(KeywordRepository.class).findByKeywordText("sports").orElseThrow().getId();
+        Long campaignId = context.getBean(CampaignService.class)
+                .createCampaign(BenchmarkContext.campaign("Events", null, keywordId)).getId();
+        deliveryEventService = context.getBean(DeliveryEventService.class);
+
+        Instant minute = Instant.parse("2025-01-01T12:00:00Z");
+        request = new ArrayList<>(eventsPerRequest);
+        for (int i = 0; i < eventsPerRequest; i++) {
+            request.add(new DeliveryEventDTO(i % 10 == 0 ? DeliveryEventType.CLICK : DeliveryEventType.IMPRESSION,
+                    campaignId, minute.plusSeconds(i % 180)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int ingest() {
+        while (true) {
+            try {
+                return deliveryEventService.ingest(request);
+            } catch (EventBufferFullException e) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
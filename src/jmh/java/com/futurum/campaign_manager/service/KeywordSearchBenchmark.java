@@ -0,0 +1,50 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.KeywordDTO;
+import com.futurum.campaign_manager.model.Keyword;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link KeywordService#searchKeywords(String)} served from {@link KeywordIndex},
+ * for prefix and infix queries over keyword sets of growing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KeywordSearchBenchmark {
+
+    private static final String[] WORDS = {"sports", "travel", "fashion", "garden", "music", "books",
+            "gaming", "health", "finance", "cooking", "movies", "outdoor", "fitness", "beauty", "pets"};
+
+    @Param({"1000", "100000"})
+    private int keywords;
+
+    @Param({"spo", "ing", "travel-12"})
+    private String query;
+
+    private KeywordService keywordService;
+
+    @Setup
+    public void setUp() {
+        List<Keyword> all = new ArrayList<>(keywords);
+        for (int i = 0; i < keywords; i++) {
+            all.add(new Keyword(i + 1, WORDS[i % WORDS.length] + "-" + i));
+        }
+        KeywordIndex index = new KeywordIndex();
+        index.rebuild(all);
+        // Queries are answered by the index, the repository is only needed before it is built
+        keywordService = new KeywordService(null, index);
+    }
+
+    @Benchmark
+    public List<KeywordDTO> searchKeywords() {
+        return keywordService.searchKeywords(query);
+    }
+}
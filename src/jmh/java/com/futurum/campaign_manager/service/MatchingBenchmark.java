@@ -0,0 +1,60 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CampaignMatchingIndex#match} for a keyword lookup filtered by town, over
+ * indexes of growing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MatchingBenchmark {
+
+    private static final List<String> KEYWORDS = List.of("shoes", "fashion", "travel", "books", "cars");
+
+    @Param({"20000", "100000"})
+    private int campaigns;
+
+    private CampaignMatchingIndex index;
+    private long lookup;
+
+    @Setup
+    public void setUp() {
+        index = new CampaignMatchingIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        for (long id = 1; id <= campaigns; id++) {
+            CampaignDTO dto = new CampaignDTO();
+            dto.setId(id);
+            dto.setCampaignName("Campaign " + id);
+            dto.setBidAmount(BigDecimal.valueOf(random.nextInt(1, 1000), 2));
+            dto.setCampaignFund(new BigDecimal("100.00"));
+            dto.setStatus(CampaignStatus.ON);
+            dto.setRadius(10);
+            dto.setTownId(random.nextLong(1, 16));
+            dto.setKeywordTexts(Set.of(KEYWORDS.get((int) (id % KEYWORDS.size()))));
+            dto.setUpdatedAt(LocalDateTime.now());
+            index.upsert(dto);
+        }
+    }
+
+    @Benchmark
+    public List<CampaignMatchingIndex.Entry> match() {
+        long n = lookup++;
+        long townId = 1 + n % 15;
+        return index.match(KEYWORDS.get((int) (n % KEYWORDS.size())),
+                entry -> entry.townId() == null || entry.townId() == townId, 10);
+    }
+}
@@ -2,8 +2,10 @@ package com.futurum.campaign_manager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CampaignManagerApplication {
 
 	public static void main(String[] args) {
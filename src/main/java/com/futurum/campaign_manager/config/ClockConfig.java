@@ -0,0 +1,19 @@
+package com.futurum.campaign_manager.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Provides the {@link Clock} used by time-dependent services, so tests can replace it
+ * with a clock they control.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
@@ -24,7 +24,7 @@ import java.util.List;
  * <p>
  * Loads three types of data:
  * <ul>
- *   <li>Sample cities with postal codes</li>
+ *   <li>Sample cities with postal codes and coordinates</li>
  *   <li>Common marketing keywords</li>
  *   <li>Initial account with seed balance</li>
  * </ul>
@@ -56,21 +56,21 @@ public class DataLoader implements CommandLineRunner {
     private void loadTowns() {
         if (townRepository.count() == 0) {
             List<Town> towns = Arrays.asList(
-                    new Town("London", "SW1A 1AA"),
-                    new Town("New York", "10001"),
-                    new Town("Paris", "75000"),
-                    new Town("Berlin", "10115"),
-                    new Town("Tokyo", "100-0001"),
-                    new Town("Sydney", "2000"),
-                    new Town("Rome", "00100"),
-                    new Town("Madrid", "28001"),
-                    new Town("Toronto", "M5V 3L9"),
-                    new Town("Dubai", "00000"),
-                    new Town("Singapore", "018960"),
-                    new Town("Los Angeles", "90001"),
-                    new Town("Chicago", "60601"),
-                    new Town("Hong Kong", "999077"),
-                    new Town("Barcelona", "08001")
+                    new Town("London", "SW1A 1AA", 51.5074, -0.1278),
+                    new Town("New York", "10001", 40.7128, -74.006),
+                    new Town("Paris", "75000", 48.8566, 2.3522),
+                    new Town("Berlin", "10115", 52.52, 13.405),
+                    new Town("Tokyo", "100-0001", 35.6762, 139.6503),
+                    new Town("Sydney", "2000", -33.8688, 151.2093),
+                    new Town("Rome", "00100", 41.9028, 12.4964),
+                    new Town("Madrid", "28001", 40.4168, -3.7038),
+                    new Town("Toronto", "M5V 3L9", 43.6532, -79.3832),
+                    new Town("Dubai", "00000", 25.2048, 55.2708),
+                    new Town("Singapore", "018960", 1.3521, 103.8198),
+                    new Town("Los Angeles", "90001", 34.0522, -118.2437),
+                    new Town("Chicago", "60601", 41.8781, -87.6298),
+                    new Town("Hong Kong", "999077", 22.3193, 114.1694),
+                    new Town("Barcelona", "08001", 41.3874, 2.1686)
             );
             townRepository.saveAll(towns);
             System.out.println("Loaded " + towns.size() + " cities");
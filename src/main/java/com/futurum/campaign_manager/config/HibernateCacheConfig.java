@@ -0,0 +1,33 @@
+package com.futurum.campaign_manager.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+
+/**
+ * Hands Hibernate the JCache manager holding its second-level and query cache regions.
+ * <p>
+ * The regions are Caffeine caches configured in {@code hibernate-cache.conf}. Caching providers
+ * share one manager per configuration file, so each entity manager factory gets a manager of
+ * its own provider instead: application contexts over different databases, as in tests, never
+ * see each other's entities. Hibernate closes the manager with the entity manager factory.
+ * </p>
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    static final URI CACHE_CONFIG = URI.create("classpath:hibernate-cache.conf");
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer() {
+        return properties -> {
+            CaffeineCachingProvider provider = new CaffeineCachingProvider();
+            properties.put(ConfigSettings.CACHE_MANAGER,
+                    provider.getCacheManager(CACHE_CONFIG, provider.getDefaultClassLoader()));
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.futurum.campaign_manager.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Logs virtual threads that stay pinned to their carrier thread, typically by blocking inside
+ * a {@code synchronized} block, for longer than {@code campaign-manager.virtual-threads.pinned-threshold-ms}.
+ * <p>
+ * Pins are read from the JDK Flight Recorder event {@code jdk.VirtualThreadPinned}. The first
+ * pin at a code location is logged as a warning with its stack, later ones at debug level.
+ * Only active when virtual threads are enabled.
+ * </p>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.futurum.campaign_manager";
+    private static final int LOGGED_FRAMES = 16;
+
+    private final Duration threshold;
+    private final Set<String> reportedLocations = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${campaign-manager.virtual-threads.pinned-threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        log.info("Logging virtual threads pinned for more than {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    void stop() {
+        stream.close();
+    }
+
+    private void report(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String location = frames.stream()
+                .map(VirtualThreadPinningMonitor::format)
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : format(frames.get(0)));
+        String stack = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + format(frame))
+                .collect(Collectors.joining(System.lineSeparator()));
+        if (reportedLocations.add(location)) {
+            log.warn("Virtual thread pinned for {} ms at {}{}{}", event.getDuration().toMillis(), location,
+                    System.lineSeparator(), stack);
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), location);
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+}
@@ -0,0 +1,47 @@
+package com.futurum.campaign_manager.controller;
+
+import com.futurum.campaign_manager.dto.ApiResponse;
+import com.futurum.campaign_manager.dto.AuctionRequestDTO;
+import com.futurum.campaign_manager.dto.AuctionResultDTO;
+import com.futurum.campaign_manager.service.AuctionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller running campaign auctions.
+ * <p>
+ * A POST to '/api/auctions' runs a second-price auction between the campaigns matching the
+ * request keywords and location and charges the winner. When no campaign can win, the
+ * response is successful but carries no data.
+ * Uses {@link AuctionService} for the auction itself.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/auctions")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AuctionController {
+
+    private final AuctionService auctionService;
+
+    @Autowired
+    public AuctionController(AuctionService auctionService) {
+        this.auctionService = auctionService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<AuctionResultDTO>> runAuction(@RequestBody AuctionRequestDTO request) {
+        try {
+            return auctionService.runAuction(request)
+                    .map(result -> ResponseEntity.ok(ApiResponse.success("Auction won", result)))
+                    .orElseGet(() -> ResponseEntity.ok(ApiResponse.success("No campaign won the auction", null)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error running auction: " + e.getMessage()));
+        }
+    }
+}
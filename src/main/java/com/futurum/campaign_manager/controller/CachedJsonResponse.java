@@ -0,0 +1,84 @@
+package com.futurum.campaign_manager.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response body serialized once per data version, as JSON and as gzip-compressed JSON.
+ * <p>
+ * Meant for large responses that change only with reference data: every request for the same
+ * version gets the same bytes, so nothing is read, serialized or compressed again. A request
+ * that finds the version changed rebuilds the body; concurrent requests may each rebuild it
+ * once, and the last result is kept.
+ * </p>
+ */
+final class CachedJsonResponse {
+
+    /**
+     * Serialized body. The arrays are shared and must not be modified.
+     */
+    record Body(byte[] json, byte[] gzip) {
+    }
+
+    private record Entry(long version, Body body) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private volatile Entry entry;
+
+    CachedJsonResponse(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the body of the given data version, serializing {@code content} if it has not
+     * been serialized for that version yet. The version must be read before the content, so
+     * a change made while building triggers another rebuild.
+     */
+    Body get(long version, Supplier<?> content) {
+        Entry current = entry;
+        if (current == null || current.version() != version) {
+            current = new Entry(version, serialize(content.get()));
+            entry = current;
+        }
+        return current.body();
+    }
+
+    /**
+     * Returns whether an {@code Accept-Encoding} header value admits gzip.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private Body serialize(Object content) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(content);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(json);
+            }
+            return new Body(json, compressed.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
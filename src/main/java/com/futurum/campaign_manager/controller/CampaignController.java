@@ -2,14 +2,28 @@ package com.futurum.campaign_manager.controller;
 
 
 import com.futurum.campaign_manager.dto.ApiResponse;
+import com.futurum.campaign_manager.dto.CampaignBulkResultDTO;
 import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignMatchDTO;
+import com.futurum.campaign_manager.dto.CampaignPageDTO;
+import com.futurum.campaign_manager.dto.CampaignStatsDTO;
+import com.futurum.campaign_manager.model.RollupGranularity;
+import com.futurum.campaign_manager.service.CampaignExportFormat;
+import com.futurum.campaign_manager.service.CampaignExportService;
+import com.futurum.campaign_manager.service.CampaignMatchingService;
 import com.futurum.campaign_manager.service.CampaignService;
+import com.futurum.campaign_manager.service.CampaignStatsService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -36,23 +50,134 @@ import java.util.List;
 public class CampaignController {
 
     private final CampaignService campaignService;
+    private final CampaignExportService campaignExportService;
+    private final CampaignMatchingService campaignMatchingService;
+    private final CampaignStatsService campaignStatsService;
 
     @Autowired
-    public CampaignController(CampaignService campaignService) {
+    public CampaignController(CampaignService campaignService,
+                              CampaignExportService campaignExportService,
+                              CampaignMatchingService campaignMatchingService,
+                              CampaignStatsService campaignStatsService) {
         this.campaignService = campaignService;
+        this.campaignExportService = campaignExportService;
+        this.campaignMatchingService = campaignMatchingService;
+        this.campaignStatsService = campaignStatsService;
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CampaignDTO>>> getAllCampaigns() {
+    public ResponseEntity<ApiResponse<List<CampaignDTO>>> getAllCampaigns(@RequestParam(required = false) String cursor,
+                                                                         @RequestParam(required = false) Integer size) {
         try {
-            List<CampaignDTO> campaigns = campaignService.getAllCampaigns();
-            return ResponseEntity.ok(ApiResponse.success("Campaigns retrieved successfully", campaigns));
+            CampaignPageDTO page = campaignService.getCampaignPage(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("Campaigns retrieved successfully", page.getCampaigns())
+                    .nextCursor(page.getNextCursor()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Error retrieving campaigns: " + e.getMessage()));
         }
     }
 
+    /**
+     * Streams all campaigns with their town and keywords as NDJSON or CSV.
+     * Rows are written while they are read from the database, so the export
+     * size is not limited by memory. An unsupported format is reported as 400
+     * by {@link GlobalExceptionHandler}.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCampaigns(@RequestParam(defaultValue = "ndjson") String format) {
+        CampaignExportFormat exportFormat = CampaignExportFormat.fromParameter(format);
+
+        StreamingResponseBody body = out -> campaignExportService.export(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + exportFormat.getFileName() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Returns the ON campaigns that should serve for a keyword near a town, highest bid first.
+     * Served from memory without touching the database.
+     */
+    @GetMapping("/match")
+    public ResponseEntity<ApiResponse<List<CampaignMatchDTO>>> matchCampaigns(@RequestParam String keyword,
+                                                                            @RequestParam(required = false) Long townId,
+                                                                            @RequestParam(required = false) Integer limit) {
+        try {
+            List<CampaignMatchDTO> matches = campaignMatchingService.match(keyword, townId, limit);
+            return ResponseEntity.ok(ApiResponse.success("Matching campaigns found", matches));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error matching campaigns: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the ON campaigns whose radius covers a point, highest bid first.
+     */
+    @GetMapping("/covering")
+    public ResponseEntity<ApiResponse<List<CampaignMatchDTO>>> findCoveringCampaigns(@RequestParam double lat,
+                                                                                   @RequestParam double lon,
+                                                                                   @RequestParam(required = false) Integer limit) {
+        try {
+            List<CampaignMatchDTO> matches = campaignMatchingService.findCovering(lat, lon, limit);
+            return ResponseEntity.ok(ApiResponse.success("Covering campaigns found", matches));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error finding covering campaigns: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the ON campaigns targeted at towns within a distance of a town, nearest first.
+     */
+    @GetMapping("/near")
+    public ResponseEntity<ApiResponse<List<CampaignMatchDTO>>> findNearbyCampaigns(@RequestParam Long townId,
+                                                                                 @RequestParam double distanceKm,
+                                                                                 @RequestParam(required = false) Integer limit) {
+        try {
+            List<CampaignMatchDTO> matches = campaignMatchingService.findNear(townId, distanceKm, limit);
+            return ResponseEntity.ok(ApiResponse.success("Nearby campaigns found", matches));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error finding nearby campaigns: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns impressions, clicks and spend of a campaign per minute, hour or day, read from
+     * pre-aggregated buckets. Without a range, the last 60 buckets up to now are returned.
+     */
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ApiResponse<CampaignStatsDTO>> getCampaignStats(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "hour") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        try {
+            CampaignStatsDTO stats = campaignStatsService.getStats(id, RollupGranularity.fromParameter(granularity), from, to);
+            return ResponseEntity.ok(ApiResponse.success("Campaign statistics retrieved", stats));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error retrieving campaign statistics: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CampaignDTO>> getCampaignById(@PathVariable Long id) {
         try {
@@ -80,6 +205,26 @@ public class CampaignController {
         }
     }
 
+    /**
+     * Creates or updates many campaigns in one request. Items are validated one by one;
+     * the response lists the outcome of every item in request order.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<CampaignBulkResultDTO>>> saveCampaigns(@RequestBody List<CampaignDTO> campaignDTOs) {
+        try {
+            List<CampaignBulkResultDTO> results = campaignService.saveCampaigns(campaignDTOs);
+            long saved = results.stream().filter(CampaignBulkResultDTO::isSuccess).count();
+            return ResponseEntity.ok(ApiResponse.success(
+                    String.format("Saved %d of %d campaigns", saved, results.size()), results));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error saving campaigns: " + e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<CampaignDTO>> updateCampaign(@PathVariable Long id,
                                                                    @Valid @RequestBody CampaignDTO campaignDTO) {
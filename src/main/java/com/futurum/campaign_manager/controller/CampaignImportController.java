@@ -0,0 +1,56 @@
+package com.futurum.campaign_manager.controller;
+
+import com.futurum.campaign_manager.dto.ApiResponse;
+import com.futurum.campaign_manager.dto.CampaignImportStatusDTO;
+import com.futurum.campaign_manager.service.CampaignImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+
+/**
+ * REST controller for importing campaigns from CSV files.
+ * <p>
+ * An upload to '/api/campaigns/import' starts a background import and answers with
+ * 202 Accepted and the job status; the job can then be polled under
+ * '/api/campaigns/import/{jobId}' for progress and per-line errors.
+ * Uses {@link CampaignImportService} for the import itself.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/campaigns/import")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class CampaignImportController {
+
+    private final CampaignImportService campaignImportService;
+
+    @Autowired
+    public CampaignImportController(CampaignImportService campaignImportService) {
+        this.campaignImportService = campaignImportService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<CampaignImportStatusDTO>> startImport(@RequestParam("file") MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            CampaignImportStatusDTO status = campaignImportService.startImport(file.getOriginalFilename(), content);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Import started", status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error starting import: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<CampaignImportStatusDTO>> getImportStatus(@PathVariable String jobId) {
+        return campaignImportService.getImportStatus(jobId)
+                .map(status -> ResponseEntity.ok(ApiResponse.success("Import status", status)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,56 @@
+package com.futurum.campaign_manager.controller;
+
+import com.futurum.campaign_manager.dto.ApiResponse;
+import com.futurum.campaign_manager.dto.DeliveryEventDTO;
+import com.futurum.campaign_manager.service.DeliveryEventService;
+import com.futurum.campaign_manager.service.EventBufferFullException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller ingesting campaign delivery events.
+ * <p>
+ * A POST of a JSON array of impressions and clicks to '/api/events' answers with
+ * 202 Accepted once the events are buffered; they are counted asynchronously. When the
+ * buffer is full, the whole request is rejected with 429 Too Many Requests and a
+ * Retry-After header. Uses {@link DeliveryEventService} for the ingestion itself.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/events")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class DeliveryEventController {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final DeliveryEventService deliveryEventService;
+
+    @Autowired
+    public DeliveryEventController(DeliveryEventService deliveryEventService) {
+        this.deliveryEventService = deliveryEventService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<Integer>> ingestEvents(@RequestBody List<DeliveryEventDTO> events) {
+        try {
+            int accepted = deliveryEventService.ingest(events);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Events accepted", accepted));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (EventBufferFullException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Error ingesting events: " + e.getMessage()));
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package com.futurum.campaign_manager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.futurum.campaign_manager.dto.ApiResponse;
 import com.futurum.campaign_manager.dto.KeywordDTO;
 import com.futurum.campaign_manager.service.KeywordService;
+import com.futurum.campaign_manager.service.ReferenceDataVersion;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 /**
  * REST controller for keyword management operations.
  * <p>
@@ -26,17 +35,49 @@ import java.util.List;
 public class KeywordController {
 
     private final KeywordService keywordService;
+    private final ReferenceDataVersion referenceDataVersion;
+    private final CachedJsonResponse allResponse;
+    private final CacheControl cacheControl;
 
     @Autowired
-    public KeywordController(KeywordService keywordService) {
+    public KeywordController(KeywordService keywordService,
+                             ReferenceDataVersion referenceDataVersion,
+                             ObjectMapper objectMapper,
+                             @Value("${campaign-manager.reference-data.max-age-ms:0}") long maxAgeMillis) {
         this.keywordService = keywordService;
+        this.referenceDataVersion = referenceDataVersion;
+        this.allResponse = new CachedJsonResponse(objectMapper);
+        this.cacheControl = CacheControl.maxAge(maxAgeMillis, TimeUnit.MILLISECONDS).mustRevalidate();
     }
 
+    /**
+     * Answers 304 if the client already has the current keywords, before any data is read.
+     * Sets the ETag and Last-Modified headers of the response either way.
+     */
+    private boolean notModified(WebRequest request) {
+        return request.checkNotModified(referenceDataVersion.getKeywordsETag(), referenceDataVersion.getKeywordsLastModified());
+    }
+
+    /**
+     * Writes the pre-serialized list, gzip-compressed if the client accepts it.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<KeywordDTO>>> getAllKeywords() {
+    public ResponseEntity<?> getAllKeywords(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                            WebRequest request) {
+        if (notModified(request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
         try {
-            List<KeywordDTO> keywords = keywordService.getAllKeywords();
-            return ResponseEntity.ok(ApiResponse.success("Keywords retrieved successfully", keywords));
+            CachedJsonResponse.Body body = allResponse.get(referenceDataVersion.getKeywordsVersion(),
+                    () -> ApiResponse.success("Keywords retrieved successfully", keywordService.getAllKeywords()));
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .cacheControl(cacheControl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (CachedJsonResponse.acceptsGzip(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+            }
+            return response.body(body.json());
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(ApiResponse.error("Error retrieving keywords: " + e.getMessage()));
@@ -44,10 +85,14 @@ public class KeywordController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<KeywordDTO>>> searchKeywords(@RequestParam(required = false) String q) {
+    public ResponseEntity<ApiResponse<List<KeywordDTO>>> searchKeywords(@RequestParam(required = false) String q,
+                                                                        WebRequest request) {
+        if (notModified(request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
         try {
             List<KeywordDTO> keywords = keywordService.searchKeywords(q);
-            return ResponseEntity.ok(ApiResponse.success("Keywords found", keywords));
+            return ResponseEntity.ok().cacheControl(cacheControl).body(ApiResponse.success("Keywords found", keywords));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(ApiResponse.error("Error searching keywords: " + e.getMessage()));
@@ -1,17 +1,26 @@
 package com.futurum.campaign_manager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.futurum.campaign_manager.dto.ApiResponse;
 import com.futurum.campaign_manager.dto.TownDTO;
+import com.futurum.campaign_manager.service.ReferenceDataVersion;
 import com.futurum.campaign_manager.service.TownService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 /**
  * REST controller for managing town-related operations.
  * <p>
- * Exposes endpoints under the '/api/towns' base path for retrieving town information.
+ * Exposes endpoints under the '/api/towns' base path for retrieving and searching towns.
  * Uses {@link TownService} for business logic and returns standardized responses
  * wrapped in {@link ApiResponse}.
  * </p>
@@ -25,21 +34,72 @@ import java.util.List;
 public class TownController {
 
     private final TownService townService;
+    private final ReferenceDataVersion referenceDataVersion;
+    private final CachedJsonResponse allResponse;
+    private final CacheControl cacheControl;
 
     @Autowired
-    public TownController(TownService townService) {
+    public TownController(TownService townService,
+                          ReferenceDataVersion referenceDataVersion,
+                          ObjectMapper objectMapper,
+                          @Value("${campaign-manager.reference-data.max-age-ms:0}") long maxAgeMillis) {
         this.townService = townService;
+        this.referenceDataVersion = referenceDataVersion;
+        this.allResponse = new CachedJsonResponse(objectMapper);
+        this.cacheControl = CacheControl.maxAge(maxAgeMillis, TimeUnit.MILLISECONDS).mustRevalidate();
     }
 
+    /**
+     * Answers 304 if the client already has the current towns, before any data is read.
+     * Sets the ETag and Last-Modified headers of the response either way.
+     */
+    private boolean notModified(WebRequest request) {
+        return request.checkNotModified(referenceDataVersion.getTownsETag(), referenceDataVersion.getTownsLastModified());
+    }
+
+    /**
+     * Writes the pre-serialized list, gzip-compressed if the client accepts it.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<TownDTO>>> getAllTowns() {
+    public ResponseEntity<?> getAllTowns(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                         WebRequest request) {
+        if (notModified(request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
         try {
-            List<TownDTO> towns = townService.getAllTowns();
-            return ResponseEntity.ok(ApiResponse.success("Towns retrieved successfully", towns));
+            CachedJsonResponse.Body body = allResponse.get(referenceDataVersion.getTownsVersion(),
+                    () -> ApiResponse.success("Towns retrieved successfully", townService.getAllTowns()));
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .cacheControl(cacheControl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (CachedJsonResponse.acceptsGzip(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+            }
+            return response.body(body.json());
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(ApiResponse.error("Error retrieving towns: " + e.getMessage()));
         }
     }
 
-}
\ No newline at end of file
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<TownDTO>>> searchTowns(@RequestParam(required = false) String q,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  WebRequest request) {
+        if (notModified(request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        try {
+            List<TownDTO> towns = townService.searchTowns(q, limit);
+            return ResponseEntity.ok().cacheControl(cacheControl).body(ApiResponse.success("Towns found", towns));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("Error searching towns: " + e.getMessage()));
+        }
+    }
+
+}
\ No newline at end of file
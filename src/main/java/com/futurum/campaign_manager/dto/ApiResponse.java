@@ -21,8 +21,13 @@ package com.futurum.campaign_manager.dto;
  * </p>
  *
  * <p>
- * Supports method chaining through the {@link #data(Object)} method for building
- * complex responses incrementally.
+ * Supports method chaining through the {@link #data(Object)} and {@link #nextCursor(String)}
+ * methods for building complex responses incrementally.
+ * </p>
+ *
+ * <p>
+ * Paginated responses carry an opaque {@code nextCursor} that the client passes back to
+ * fetch the following page; it is omitted on the last page.
  * </p>
  *
  * @param <T> Type of the data payload contained in the response
@@ -32,6 +37,7 @@ public class ApiResponse<T> {
     private boolean success;
     private String message;
     private T data;
+    private String nextCursor;
 
     public ApiResponse() {}
 
@@ -63,6 +69,11 @@ public class ApiResponse<T> {
         return this;
     }
 
+    public ApiResponse<T> nextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+        return this;
+    }
+
     public boolean isSuccess() { return success; }
     public void setSuccess(boolean success) { this.success = success; }
 
@@ -71,4 +82,7 @@ public class ApiResponse<T> {
 
     public T getData() { return data; }
     public void setData(T data) { this.data = data; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
 }
@@ -0,0 +1,26 @@
+package com.futurum.campaign_manager.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object describing the context of one auction: the keywords of the request
+ * and, optionally, the town it comes from.
+ */
+public class AuctionRequestDTO {
+
+    private List<String> keywords;
+    private Long townId;
+
+    public AuctionRequestDTO() {}
+
+    public AuctionRequestDTO(List<String> keywords, Long townId) {
+        this.keywords = keywords;
+        this.townId = townId;
+    }
+
+    public List<String> getKeywords() { return keywords; }
+    public void setKeywords(List<String> keywords) { this.keywords = keywords; }
+
+    public Long getTownId() { return townId; }
+    public void setTownId(Long townId) { this.townId = townId; }
+}
@@ -0,0 +1,46 @@
+package com.futurum.campaign_manager.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object representing the winner of an auction.
+ * <p>
+ * The winner is charged the clearing price, which never exceeds its bid. The remaining fund
+ * is the campaign fund after the charge.
+ * </p>
+ */
+public class AuctionResultDTO {
+
+    private Long campaignId;
+    private String campaignName;
+    private Long townId;
+    private String townName;
+    private BigDecimal bidAmount;
+    private BigDecimal clearingPrice;
+    private BigDecimal remainingFund;
+    private int competitors;
+
+    public Long getCampaignId() { return campaignId; }
+    public void setCampaignId(Long campaignId) { this.campaignId = campaignId; }
+
+    public String getCampaignName() { return campaignName; }
+    public void setCampaignName(String campaignName) { this.campaignName = campaignName; }
+
+    public Long getTownId() { return townId; }
+    public void setTownId(Long townId) { this.townId = townId; }
+
+    public String getTownName() { return townName; }
+    public void setTownName(String townName) { this.townName = townName; }
+
+    public BigDecimal getBidAmount() { return bidAmount; }
+    public void setBidAmount(BigDecimal bidAmount) { this.bidAmount = bidAmount; }
+
+    public BigDecimal getClearingPrice() { return clearingPrice; }
+    public void setClearingPrice(BigDecimal clearingPrice) { this.clearingPrice = clearingPrice; }
+
+    public BigDecimal getRemainingFund() { return remainingFund; }
+    public void setRemainingFund(BigDecimal remainingFund) { this.remainingFund = remainingFund; }
+
+    public int getCompetitors() { return competitors; }
+    public void setCompetitors(int competitors) { this.competitors = competitors; }
+}
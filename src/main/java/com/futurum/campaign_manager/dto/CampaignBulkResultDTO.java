@@ -0,0 +1,45 @@
+package com.futurum.campaign_manager.dto;
+
+/**
+ * Data Transfer Object describing the outcome of one item of a bulk campaign request.
+ * <p>
+ * Holds the position of the item in the request and either the saved campaign
+ * or the reason the item was rejected.
+ * </p>
+ */
+public class CampaignBulkResultDTO {
+
+    private int index;
+    private boolean success;
+    private CampaignDTO campaign;
+    private String error;
+
+    public CampaignBulkResultDTO() {}
+
+    public CampaignBulkResultDTO(int index, boolean success, CampaignDTO campaign, String error) {
+        this.index = index;
+        this.success = success;
+        this.campaign = campaign;
+        this.error = error;
+    }
+
+    public static CampaignBulkResultDTO saved(int index, CampaignDTO campaign) {
+        return new CampaignBulkResultDTO(index, true, campaign, null);
+    }
+
+    public static CampaignBulkResultDTO rejected(int index, String error) {
+        return new CampaignBulkResultDTO(index, false, null, error);
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public CampaignDTO getCampaign() { return campaign; }
+    public void setCampaign(CampaignDTO campaign) { this.campaign = campaign; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
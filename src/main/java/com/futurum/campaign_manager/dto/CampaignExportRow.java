@@ -0,0 +1,27 @@
+package com.futurum.campaign_manager.dto;
+
+import com.futurum.campaign_manager.model.CampaignStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection row used by the campaign export.
+ * <p>
+ * One row is returned per campaign and keyword pair (or a single row with a {@code null}
+ * keyword for campaigns without keywords), so campaigns can be streamed with one query
+ * without loading entities into the persistence context.
+ * </p>
+ */
+public record CampaignExportRow(Long id,
+                                String campaignName,
+                                BigDecimal bidAmount,
+                                BigDecimal campaignFund,
+                                CampaignStatus status,
+                                Integer radius,
+                                Long townId,
+                                String townName,
+                                String keywordText,
+                                LocalDateTime createdAt,
+                                LocalDateTime updatedAt) {
+}
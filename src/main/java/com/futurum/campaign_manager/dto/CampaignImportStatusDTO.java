@@ -0,0 +1,67 @@
+package com.futurum.campaign_manager.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object describing the progress of a campaign CSV import.
+ * <p>
+ * Reports how far the file has been read, how many campaigns were imported or rejected,
+ * and the first errors found, each tied to the line of the file it was found on.
+ * </p>
+ */
+public class CampaignImportStatusDTO {
+
+    private String jobId;
+    private String fileName;
+    private String status;
+    private long rowsProcessed;
+    private long imported;
+    private long failed;
+    private int progressPercent;
+    private List<LineError> errors;
+    private String message;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public CampaignImportStatusDTO() {}
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public long getRowsProcessed() { return rowsProcessed; }
+    public void setRowsProcessed(long rowsProcessed) { this.rowsProcessed = rowsProcessed; }
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public int getProgressPercent() { return progressPercent; }
+    public void setProgressPercent(int progressPercent) { this.progressPercent = progressPercent; }
+
+    public List<LineError> getErrors() { return errors; }
+    public void setErrors(List<LineError> errors) { this.errors = errors; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    /**
+     * A rejected row of the imported file.
+     */
+    public record LineError(long line, String message) {
+    }
+}
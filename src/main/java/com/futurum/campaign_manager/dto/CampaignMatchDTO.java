@@ -0,0 +1,59 @@
+package com.futurum.campaign_manager.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object representing a campaign eligible to serve for a keyword and location.
+ * <p>
+ * Returned by the matching endpoints in ranking order. Distance queries also report the
+ * distance between the campaign town and the query origin.
+ * </p>
+ */
+public class CampaignMatchDTO {
+
+    private Long campaignId;
+    private String campaignName;
+    private BigDecimal bidAmount;
+    private BigDecimal campaignFund;
+    private Long townId;
+    private String townName;
+    private Integer radius;
+    private Double distanceKm;
+
+    public CampaignMatchDTO() {}
+
+    public CampaignMatchDTO(Long campaignId, String campaignName, BigDecimal bidAmount, BigDecimal campaignFund,
+                            Long townId, String townName, Integer radius) {
+        this.campaignId = campaignId;
+        this.campaignName = campaignName;
+        this.bidAmount = bidAmount;
+        this.campaignFund = campaignFund;
+        this.townId = townId;
+        this.townName = townName;
+        this.radius = radius;
+    }
+
+    public Long getCampaignId() { return campaignId; }
+    public void setCampaignId(Long campaignId) { this.campaignId = campaignId; }
+
+    public String getCampaignName() { return campaignName; }
+    public void setCampaignName(String campaignName) { this.campaignName = campaignName; }
+
+    public BigDecimal getBidAmount() { return bidAmount; }
+    public void setBidAmount(BigDecimal bidAmount) { this.bidAmount = bidAmount; }
+
+    public BigDecimal getCampaignFund() { return campaignFund; }
+    public void setCampaignFund(BigDecimal campaignFund) { this.campaignFund = campaignFund; }
+
+    public Long getTownId() { return townId; }
+    public void setTownId(Long townId) { this.townId = townId; }
+
+    public String getTownName() { return townName; }
+    public void setTownName(String townName) { this.townName = townName; }
+
+    public Integer getRadius() { return radius; }
+    public void setRadius(Integer radius) { this.radius = radius; }
+
+    public Double getDistanceKm() { return distanceKm; }
+    public void setDistanceKm(Double distanceKm) { this.distanceKm = distanceKm; }
+}
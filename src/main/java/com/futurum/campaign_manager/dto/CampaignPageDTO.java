@@ -0,0 +1,29 @@
+package com.futurum.campaign_manager.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object representing one page of a keyset-paginated campaign listing.
+ * <p>
+ * Holds the campaigns of the page and the opaque cursor pointing past its last element.
+ * The cursor is {@code null} when there are no further pages.
+ * </p>
+ */
+public class CampaignPageDTO {
+
+    private List<CampaignDTO> campaigns;
+    private String nextCursor;
+
+    public CampaignPageDTO() {}
+
+    public CampaignPageDTO(List<CampaignDTO> campaigns, String nextCursor) {
+        this.campaigns = campaigns;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CampaignDTO> getCampaigns() { return campaigns; }
+    public void setCampaigns(List<CampaignDTO> campaigns) { this.campaigns = campaigns; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
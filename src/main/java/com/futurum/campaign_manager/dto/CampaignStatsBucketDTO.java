@@ -0,0 +1,36 @@
+package com.futurum.campaign_manager.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for the impressions, clicks and spend of a campaign in one time bucket.
+ */
+public class CampaignStatsBucketDTO {
+
+    private Instant bucketStart;
+    private long impressions;
+    private long clicks;
+    private BigDecimal spend;
+
+    public CampaignStatsBucketDTO() {}
+
+    public CampaignStatsBucketDTO(Instant bucketStart, long impressions, long clicks, BigDecimal spend) {
+        this.bucketStart = bucketStart;
+        this.impressions = impressions;
+        this.clicks = clicks;
+        this.spend = spend;
+    }
+
+    public Instant getBucketStart() { return bucketStart; }
+    public void setBucketStart(Instant bucketStart) { this.bucketStart = bucketStart; }
+
+    public long getImpressions() { return impressions; }
+    public void setImpressions(long impressions) { this.impressions = impressions; }
+
+    public long getClicks() { return clicks; }
+    public void setClicks(long clicks) { this.clicks = clicks; }
+
+    public BigDecimal getSpend() { return spend; }
+    public void setSpend(BigDecimal spend) { this.spend = spend; }
+}
@@ -0,0 +1,50 @@
+package com.futurum.campaign_manager.dto;
+
+import com.futurum.campaign_manager.model.RollupGranularity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the delivery statistics of a campaign over a time range: the
+ * totals of the range and its non-empty buckets, oldest first. Buckets without any
+ * impression, click or spend are left out.
+ */
+public class CampaignStatsDTO {
+
+    private Long campaignId;
+    private RollupGranularity granularity;
+    private Instant from;
+    private Instant to;
+    private long impressions;
+    private long clicks;
+    private BigDecimal spend;
+    private List<CampaignStatsBucketDTO> buckets;
+
+    public CampaignStatsDTO() {}
+
+    public Long getCampaignId() { return campaignId; }
+    public void setCampaignId(Long campaignId) { this.campaignId = campaignId; }
+
+    public RollupGranularity getGranularity() { return granularity; }
+    public void setGranularity(RollupGranularity granularity) { this.granularity = granularity; }
+
+    public Instant getFrom() { return from; }
+    public void setFrom(Instant from) { this.from = from; }
+
+    public Instant getTo() { return to; }
+    public void setTo(Instant to) { this.to = to; }
+
+    public long getImpressions() { return impressions; }
+    public void setImpressions(long impressions) { this.impressions = impressions; }
+
+    public long getClicks() { return clicks; }
+    public void setClicks(long clicks) { this.clicks = clicks; }
+
+    public BigDecimal getSpend() { return spend; }
+    public void setSpend(BigDecimal spend) { this.spend = spend; }
+
+    public List<CampaignStatsBucketDTO> getBuckets() { return buckets; }
+    public void setBuckets(List<CampaignStatsBucketDTO> buckets) { this.buckets = buckets; }
+}
@@ -0,0 +1,33 @@
+package com.futurum.campaign_manager.dto;
+
+import com.futurum.campaign_manager.model.DeliveryEventType;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for one delivery event: an impression or a click of a campaign.
+ * Events without a timestamp are counted at the time they are received.
+ */
+public class DeliveryEventDTO {
+
+    private DeliveryEventType type;
+    private Long campaignId;
+    private Instant timestamp;
+
+    public DeliveryEventDTO() {}
+
+    public DeliveryEventDTO(DeliveryEventType type, Long campaignId, Instant timestamp) {
+        this.type = type;
+        this.campaignId = campaignId;
+        this.timestamp = timestamp;
+    }
+
+    public DeliveryEventType getType() { return type; }
+    public void setType(DeliveryEventType type) { this.type = type; }
+
+    public Long getCampaignId() { return campaignId; }
+    public void setCampaignId(Long campaignId) { this.campaignId = campaignId; }
+
+    public Instant getTimestamp() { return timestamp; }
+    public void setTimestamp(Instant timestamp) { this.timestamp = timestamp; }
+}
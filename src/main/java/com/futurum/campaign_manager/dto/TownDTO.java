@@ -5,7 +5,7 @@ import jakarta.validation.constraints.NotBlank;
  * Data Transfer Object (DTO) representing town information.
  * <p>
  * This class is used to transfer town-related data between different layers of the application.
- * It contains basic town information including identifier, name, and postal code.
+ * It contains basic town information including identifier, name, postal code and coordinates.
  */
 public class TownDTO {
 
@@ -16,6 +16,10 @@ public class TownDTO {
 
     private String postalCode;
 
+    private Double latitude;
+
+    private Double longitude;
+
     public TownDTO() {}
 
     public TownDTO(Long id, String townName, String postalCode) {
@@ -47,4 +51,20 @@ public class TownDTO {
     public void setPostalCode(String postalCode) {
         this.postalCode = postalCode;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
@@ -16,8 +16,13 @@ import java.util.Set;
 @Table(name = "campaigns")
 public class Campaign {
 
+    /**
+     * Sequence-generated with a pooled optimizer, so bulk inserts take identifiers from memory
+     * and Hibernate can group them into JDBC batches; IDENTITY would force one insert per row.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "campaign_seq")
+    @SequenceGenerator(name = "campaign_seq", sequenceName = "campaigns_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Campaign name is mandatory")
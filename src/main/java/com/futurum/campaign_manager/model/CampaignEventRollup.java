@@ -0,0 +1,97 @@
+package com.futurum.campaign_manager.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Impressions, clicks and spend of one campaign in one time bucket.
+ * <p>
+ * Every event is counted in its minute, hour and day bucket, so a range at any granularity
+ * is read from a few pre-aggregated rows. Rows are written in batches by the event ingestion
+ * pipeline, which adds to the counts of an existing bucket instead of storing one row per
+ * event. Bucket starts are UTC. There is no foreign key to the campaign, so events still in
+ * flight when a campaign is deleted can be written.
+ */
+@Entity
+@Table(name = "campaign_event_rollups",
+        indexes = @Index(name = "idx_rollups_campaign_bucket", columnList = "campaign_id, granularity, bucket_start"))
+@IdClass(CampaignEventRollup.Key.class)
+public class CampaignEventRollup {
+
+    @Id
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 8)
+    private RollupGranularity granularity;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "impressions", nullable = false)
+    private long impressions;
+
+    @Column(name = "clicks", nullable = false)
+    private long clicks;
+
+    @Column(name = "spend", nullable = false, precision = 14, scale = 2)
+    private BigDecimal spend;
+
+    public CampaignEventRollup() {}
+
+    public Long getCampaignId() { return campaignId; }
+    public void setCampaignId(Long campaignId) { this.campaignId = campaignId; }
+
+    public RollupGranularity getGranularity() { return granularity; }
+    public void setGranularity(RollupGranularity granularity) { this.granularity = granularity; }
+
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public void setBucketStart(LocalDateTime bucketStart) { this.bucketStart = bucketStart; }
+
+    public long getImpressions() { return impressions; }
+    public void setImpressions(long impressions) { this.impressions = impressions; }
+
+    public long getClicks() { return clicks; }
+    public void setClicks(long clicks) { this.clicks = clicks; }
+
+    public BigDecimal getSpend() { return spend; }
+    public void setSpend(BigDecimal spend) { this.spend = spend; }
+
+    /**
+     * Composite identifier: campaign, granularity and bucket start.
+     */
+    public static class Key implements Serializable {
+
+        private Long campaignId;
+        private RollupGranularity granularity;
+        private LocalDateTime bucketStart;
+
+        public Key() {}
+
+        public Key(Long campaignId, RollupGranularity granularity, LocalDateTime bucketStart) {
+            this.campaignId = campaignId;
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(campaignId, key.campaignId) && granularity == key.granularity
+                    && Objects.equals(bucketStart, key.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(campaignId, granularity, bucketStart);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.futurum.campaign_manager.model;
+
+/**
+ * Kind of delivery event reported for a campaign.
+ */
+public enum DeliveryEventType {
+    IMPRESSION,
+    CLICK
+}
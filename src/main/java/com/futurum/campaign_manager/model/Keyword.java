@@ -1,8 +1,11 @@
 package com.futurum.campaign_manager.model;
 
 
+import com.futurum.campaign_manager.service.ReferenceDataListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Objects;
 import java.util.Set;
 
@@ -12,9 +15,13 @@ import java.util.Set;
  * A keyword is a unique text label that can be associated with multiple campaigns.
  * Keywords are case-sensitive and must be unique across the system.
  * Equality of keywords is based solely on the keyword text.
+ * Keywords are held in the {@code keywords} second-level cache region, as they rarely change.
  */
 @Entity
 @Table(name = "keywords")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "keywords")
+@EntityListeners(ReferenceDataListener.class)
 public class Keyword {
 
     @Id
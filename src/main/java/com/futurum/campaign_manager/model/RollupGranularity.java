@@ -0,0 +1,43 @@
+package com.futurum.campaign_manager.model;
+
+import java.util.Locale;
+
+/**
+ * Bucket sizes of the campaign delivery rollups. Buckets are aligned to UTC.
+ */
+public enum RollupGranularity {
+
+    MINUTE(60_000L),
+    HOUR(3_600_000L),
+    DAY(86_400_000L);
+
+    private final long millis;
+
+    RollupGranularity(long millis) {
+        this.millis = millis;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    /**
+     * Returns the start of the bucket containing the time, in epoch milliseconds.
+     */
+    public long bucketStart(long epochMillis) {
+        return Math.floorDiv(epochMillis, millis) * millis;
+    }
+
+    /**
+     * Resolves the granularity from a request parameter, ignoring case.
+     *
+     * @throws IllegalArgumentException if the granularity is not supported
+     */
+    public static RollupGranularity fromParameter(String granularity) {
+        try {
+            return valueOf(granularity.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unsupported granularity: " + granularity);
+        }
+    }
+}
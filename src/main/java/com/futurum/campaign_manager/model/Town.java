@@ -1,7 +1,10 @@
 package com.futurum.campaign_manager.model;
 
+import com.futurum.campaign_manager.service.ReferenceDataListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Objects;
 import java.util.Set;
 
@@ -9,11 +12,16 @@ import java.util.Set;
  * Represents a Town entity in the system.
  * <p>
  * A town contains a unique name, optional postal code, and can be associated with multiple campaigns.
+ * Optional WGS84 coordinates locate the town; campaign radii are measured from them.
  * The equality of towns is based solely on the town name.
+ * Towns are held in the {@code towns} second-level cache region, as they rarely change.
  */
 
 @Entity
 @Table(name = "towns")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "towns")
+@EntityListeners(ReferenceDataListener.class)
 public class Town {
 
     @Id
@@ -27,6 +35,12 @@ public class Town {
     @Column(name = "postal_code")
     private String postalCode;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @OneToMany(mappedBy = "town")
     private Set<Campaign> campaigns;
 
@@ -41,6 +55,13 @@ public class Town {
         this.postalCode = postalCode;
     }
 
+    public Town(String townName, String postalCode, Double latitude, Double longitude) {
+        this.townName = townName;
+        this.postalCode = postalCode;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
@@ -50,6 +71,12 @@ public class Town {
     public String getPostalCode() { return postalCode; }
     public void setPostalCode(String postalCode) { this.postalCode = postalCode; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public Set<Campaign> getCampaigns() { return campaigns; }
     public void setCampaigns(Set<Campaign> campaigns) { this.campaigns = campaigns; }
 
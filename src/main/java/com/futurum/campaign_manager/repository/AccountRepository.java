@@ -2,8 +2,14 @@ package com.futurum.campaign_manager.repository;
 
 import com.futurum.campaign_manager.model.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -16,4 +22,20 @@ import java.util.Optional;
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByAccountName(String accountName);
+
+    /**
+     * Applies a relative balance change in a single conditional statement, so concurrent
+     * writers never overwrite each other's changes with a stale read and the balance
+     * can never be driven below zero.
+     *
+     * @return number of updated rows (0 when the account does not exist or the change
+     *         would make the balance negative)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Account a SET a.balance = a.balance + :delta, a.updatedAt = :updatedAt " +
+            "WHERE a.accountName = :accountName AND a.balance + :delta >= 0")
+    int applyBalanceDelta(@Param("accountName") String accountName,
+                          @Param("delta") BigDecimal delta,
+                          @Param("updatedAt") LocalDateTime updatedAt);
 }
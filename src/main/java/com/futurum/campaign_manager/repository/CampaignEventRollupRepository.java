@@ -0,0 +1,30 @@
+package com.futurum.campaign_manager.repository;
+
+import com.futurum.campaign_manager.model.CampaignEventRollup;
+import com.futurum.campaign_manager.model.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for reading {@link CampaignEventRollup} buckets. Rollups are written
+ * with JDBC batches by the event ingestion pipeline, not through this repository.
+ */
+@Repository
+public interface CampaignEventRollupRepository extends JpaRepository<CampaignEventRollup, CampaignEventRollup.Key> {
+
+    /**
+     * Returns the buckets of a campaign starting in {@code [from, to)}, oldest first.
+     * Served by a range scan of the campaign, granularity and bucket start index.
+     */
+    @Query("SELECT r FROM CampaignEventRollup r WHERE r.campaignId = :campaignId AND r.granularity = :granularity "
+            + "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<CampaignEventRollup> findRange(@Param("campaignId") Long campaignId,
+                                        @Param("granularity") RollupGranularity granularity,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+}
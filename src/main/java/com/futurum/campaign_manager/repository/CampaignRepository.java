@@ -1,13 +1,24 @@
 package com.futurum.campaign_manager.repository;
 
+import com.futurum.campaign_manager.dto.CampaignExportRow;
 import com.futurum.campaign_manager.model.Campaign;
 import com.futurum.campaign_manager.model.CampaignStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Campaign} entities.
@@ -20,6 +31,61 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
 
     List<Campaign> findByStatus(CampaignStatus status);
 
+    /**
+     * Keyset pagination: returns campaigns with an identifier greater than {@code id},
+     * in identifier order. Served by the primary key index, so the cost of a page does
+     * not depend on how deep into the listing it is.
+     * <p>
+     * Towns are joined in the same query. Keywords are not, because fetching a collection
+     * together with a row limit would make Hibernate paginate in memory; load them with
+     * {@link #fetchKeywords(Collection)} instead.
+     */
+    @EntityGraph(attributePaths = "town")
+    List<Campaign> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Initializes the keyword collections of the given, already loaded campaigns
+     * with a single query.
+     */
+    @Query("SELECT DISTINCT c FROM Campaign c LEFT JOIN FETCH c.keywords WHERE c.id IN :ids")
+    List<Campaign> fetchKeywords(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads a campaign together with its town and keywords in one query.
+     */
+    @EntityGraph(attributePaths = {"town", "keywords"})
+    @Query("SELECT c FROM Campaign c WHERE c.id = :id")
+    Optional<Campaign> findWithDetailsById(@Param("id") Long id);
+
+    /**
+     * Loads a campaign and locks its row until the end of the current transaction,
+     * so concurrent fund changes of the same campaign are applied one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Campaign c WHERE c.id = :id")
+    Optional<Campaign> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Loads and locks several campaigns at once. Rows are locked in identifier order,
+     * so concurrent bulk updates of overlapping campaigns cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Campaign c WHERE c.id IN :ids ORDER BY c.id")
+    List<Campaign> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Streams all campaigns as flat rows, one per campaign and keyword, ordered by campaign.
+     * <p>
+     * Rows are constructor projections rather than entities, so nothing accumulates in the
+     * persistence context and the result can be consumed in constant memory. Must be called
+     * inside a transaction and the stream must be closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.futurum.campaign_manager.dto.CampaignExportRow(c.id, c.campaignName, c.bidAmount, " +
+            "c.campaignFund, c.status, c.radius, t.id, t.townName, k.keywordText, c.createdAt, c.updatedAt) " +
+            "FROM Campaign c LEFT JOIN c.town t LEFT JOIN c.keywords k ORDER BY c.id, k.keywordText")
+    Stream<CampaignExportRow> streamForExport();
+
     List<Campaign> findByCampaignNameContainingIgnoreCase(String campaignName);
 
     @Query("SELECT c FROM Campaign c WHERE c.town.id = :townId")
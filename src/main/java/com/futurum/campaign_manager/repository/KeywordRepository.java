@@ -1,8 +1,11 @@
 package com.futurum.campaign_manager.repository;
 
 import com.futurum.campaign_manager.model.Keyword;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,12 +16,17 @@ import java.util.Optional;
  * <p>
  * Provides standard CRUD operations through {@link JpaRepository} and additional custom queries
  * for keyword-related operations. Includes methods for finding keywords by exact match or
- * partial text search with case insensitivity.
+ * partial text search with case insensitivity. Exact matches are answered from the query
+ * cache until the keywords table changes.
  * </p>
  */
 @Repository
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "keywords-by-text")
+    })
     Optional<Keyword> findByKeywordText(String keywordText);
 
     @Query("SELECT k FROM Keyword k WHERE LOWER(k.keywordText) LIKE LOWER(CONCAT('%', :text, '%'))")
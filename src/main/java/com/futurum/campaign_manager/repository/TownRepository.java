@@ -1,7 +1,10 @@
 package com.futurum.campaign_manager.repository;
 
 import com.futurum.campaign_manager.model.Town;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,10 +15,15 @@ import java.util.Optional;
  * <p>
  * Provides standard CRUD operations through {@link JpaRepository} and custom query methods
  * for town-related data access. All methods are transactional by default.
+ * Lookups by name are answered from the query cache until the towns table changes.
  */
 @Repository
 public interface TownRepository extends JpaRepository<Town, Long> {
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "towns-by-name")
+    })
     Optional<Town> findByTownName(String townName);
 
     List<Town> findByTownNameContainingIgnoreCaseOrderByTownName(String townName);
@@ -1,10 +1,12 @@
 package com.futurum.campaign_manager.service;
 
 import com.futurum.campaign_manager.dto.AccountBalanceDTO;
-import com.futurum.campaign_manager.model.Account;
-import com.futurum.campaign_manager.repository.AccountRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -13,35 +15,51 @@ import java.math.BigDecimal;
  * Service layer for handling account-related operations including balance checks,
  * fund transfers, and account management.
  * <p>
- * This service provides transactional operations on account entities and ensures
- * data consistency through Spring's transaction management.
+ * Fund checks and balance changes go through the in-memory {@link FundLedger}, which
+ * admits debits without a database round trip and persists balance changes in batches.
+ * Balances are read from the ledger's committed balance, so polling them costs no database work.
+ * Admitted and rejected debits are counted in {@code account.fund.reservations}.
  */
 @Service
 @Transactional
+@Timed(ServiceMetrics.SERVICE_TIMER)
 public class AccountService {
 
-    private final AccountRepository accountRepository;
+    private final FundLedger fundLedger;
+    private final Counter reservedFunds;
+    private final Counter rejectedFunds;
 
     /**
-     * Constructs an AccountService with the specified repository.
+     * Constructs an AccountService with the specified ledger.
      *
-     * @param accountRepository the account repository to be used for database operations
+     * @param fundLedger the in-memory ledger guarding account balances
+     * @param meterRegistry the registry of the fund reservation counters
      */
     @Autowired
-    public AccountService(AccountRepository accountRepository) {
-        this.accountRepository = accountRepository;
+    public AccountService(FundLedger fundLedger, MeterRegistry meterRegistry) {
+        this.fundLedger = fundLedger;
+        this.reservedFunds = reservationCounter(meterRegistry, "reserved");
+        this.rejectedFunds = reservationCounter(meterRegistry, "rejected");
+    }
+
+    private static Counter reservationCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("account.fund.reservations")
+                .description("Account debits for campaign funds by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     /**
      * Retrieves the current balance for a specified account.
+     * <p>
+     * The balance includes every committed change, flushed or not, and none that is still
+     * part of a running transaction. It is read from memory without opening a transaction.
      *
      * @param accountName the name of the account to query
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public AccountBalanceDTO getAccountBalance(String accountName) {
-        Account account = accountRepository.findByAccountName(accountName)
-                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountName));
-
-        return new AccountBalanceDTO(account.getAccountName(), account.getBalance());
+        return new AccountBalanceDTO(accountName, fundLedger.getCommittedBalance(accountName));
     }
 
     /**
@@ -51,10 +69,22 @@ public class AccountService {
      * @param amount the amount to verify against the account balance
      */
     public boolean hasEnoughFunds(String accountName, BigDecimal amount) {
-        Account account = accountRepository.findByAccountName(accountName)
-                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountName));
+        return fundLedger.hasEnoughFunds(accountName, amount);
+    }
 
-        return account.hasEnoughFunds(amount);
+    /**
+     * Atomically checks and debits the specified account in a single step.
+     * <p>
+     * Unlike calling {@link #hasEnoughFunds} followed by {@link #deductFunds}, no concurrent
+     * request can spend the same funds between the check and the debit. If the surrounding
+     * transaction rolls back, the reservation is released.
+     *
+     * @param accountName the name of the account to reserve funds from
+     * @param amount the amount to reserve (must be positive)
+     * @return {@code true} if the funds were reserved, {@code false} if the balance is insufficient
+     */
+    public boolean reserveFunds(String accountName, BigDecimal amount) {
+        return count(fundLedger.tryDebit(accountName, amount));
     }
 
     /**
@@ -66,11 +96,9 @@ public class AccountService {
      * @param amount the amount to deduct (must be positive)
      */
     public void deductFunds(String accountName, BigDecimal amount) {
-        Account account = accountRepository.findByAccountName(accountName)
-                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountName));
-
-        account.deductFunds(amount);
-        accountRepository.save(account);
+        if (!count(fundLedger.tryDebit(accountName, amount))) {
+            throw new IllegalArgumentException("Insufficient funds");
+        }
     }
 
     /**
@@ -80,10 +108,11 @@ public class AccountService {
      * @param amount the amount to add (must be positive)
      */
     public void addFunds(String accountName, BigDecimal amount) {
-        Account account = accountRepository.findByAccountName(accountName)
-                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountName));
+        fundLedger.credit(accountName, amount);
+    }
 
-        account.addFunds(amount);
-        accountRepository.save(account);
+    private boolean count(boolean reserved) {
+        (reserved ? reservedFunds : rejectedFunds).increment();
+        return reserved;
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.futurum.campaign_manager.service;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer of the campaigns competing in one auction.
+ * <p>
+ * Pooled by {@link AuctionService} and cleared between auctions, so running an auction creates
+ * no garbage. Bids are copied into a primitive array next to the entries, which keeps the
+ * winner search a scan over {@code long}s. Candidates are deduplicated by campaign, since a
+ * campaign can match several keywords of the same request.
+ * </p>
+ */
+final class AuctionCandidates {
+
+    private final CampaignMatchingIndex.Entry[] entries;
+    private final long[] ids;
+    private final long[] bids;
+    private int size;
+
+    AuctionCandidates(int capacity) {
+        entries = new CampaignMatchingIndex.Entry[capacity];
+        ids = new long[capacity];
+        bids = new long[capacity];
+    }
+
+    void clear() {
+        // Drop references so campaigns removed from the index can be collected
+        Arrays.fill(entries, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Adds a campaign unless it is already a candidate.
+     *
+     * @return {@code false} if the buffer is full
+     */
+    boolean add(CampaignMatchingIndex.Entry entry) {
+        long id = entry.id();
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        if (size == entries.length) {
+            return false;
+        }
+        entries[size] = entry;
+        ids[size] = id;
+        bids[size] = entry.bidCents();
+        size++;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    CampaignMatchingIndex.Entry get(int index) {
+        return entries[index];
+    }
+
+    /**
+     * Returns the position of the highest bid, ties going to the lowest campaign identifier,
+     * or -1 if there are no candidates.
+     */
+    int best() {
+        return bestExcept(-1);
+    }
+
+    /**
+     * Returns the highest bid other than the one at {@code excluded}, or -1 if there is none.
+     */
+    long runnerUpBid(int excluded) {
+        int runnerUp = bestExcept(excluded);
+        return runnerUp < 0 ? -1 : bids[runnerUp];
+    }
+
+    /**
+     * Removes the candidate at the position by moving the last one into its place.
+     */
+    void remove(int index) {
+        size--;
+        entries[index] = entries[size];
+        ids[index] = ids[size];
+        bids[index] = bids[size];
+        entries[size] = null;
+    }
+
+    private int bestExcept(int excluded) {
+        int best = -1;
+        for (int i = 0; i < size; i++) {
+            if (i == excluded) {
+                continue;
+            }
+            if (best < 0 || bids[i] > bids[best] || (bids[i] == bids[best] && ids[i] < ids[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,178 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.AuctionRequestDTO;
+import com.futurum.campaign_manager.dto.AuctionResultDTO;
+import com.futurum.campaign_manager.model.Town;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Service running second-price auctions between the campaigns matching a request.
+ * <p>
+ * Candidates are the eligible campaigns of {@link CampaignMatchingIndex} for any of the
+ * requested keywords that may serve at the requested town. The highest bid wins and pays the
+ * second-highest bid, or the reserve price when it has no competitor. A winner whose
+ * remaining fund does not cover the clearing price is skipped and the auction is decided
+ * among the rest.
+ * </p>
+ *
+ * <p>
+ * Candidate selection is allocation free: bids are compared as cents in an
+ * {@link AuctionCandidates} buffer taken from a bounded pool, and posting arrays are read
+ * without copying. The pool is shared by all request threads rather than held per thread,
+ * since with virtual threads every request runs on a new thread. The winner
+ * is charged through {@link CampaignSpendLedger}, which admits the charge in memory and
+ * writes spend back in batches; if the charge is rejected, the next candidate is tried.
+ * A winner left unable to cover its bid is taken out of matching right away.
+ * </p>
+ *
+ * <p>
+ * Campaigns held back by {@link BudgetPacer} do not take part, and the clearing price of a
+ * winner is taken out of its pacing budget. {@link DeliveryEventService} picks the spend up
+ * from the ledger for the statistics.
+ * </p>
+ */
+@Service
+public class AuctionService {
+
+    static final int MAX_KEYWORDS = 20;
+    static final int CANDIDATES_PER_KEYWORD = 16;
+    static final int BUFFER_POOL_SIZE = 256;
+
+    private final CampaignMatchingIndex matchingIndex;
+    private final CampaignMatchingService campaignMatchingService;
+    private final ReferenceDataSnapshot referenceDataSnapshot;
+    private final CampaignSpendLedger spendLedger;
+    private final BudgetPacer budgetPacer;
+    private final long reservePriceCents;
+    // Buffers of finished auctions; filled on demand, so it only grows to the auction concurrency
+    private final BlockingQueue<AuctionCandidates> buffers = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+
+    @Autowired
+    public AuctionService(CampaignMatchingIndex matchingIndex,
+                          CampaignMatchingService campaignMatchingService,
+                          ReferenceDataSnapshot referenceDataSnapshot,
+                          CampaignSpendLedger spendLedger,
+                          BudgetPacer budgetPacer,
+                          @Value("${campaign-manager.auction.reserve-price:0.01}") BigDecimal reservePrice) {
+        this.matchingIndex = matchingIndex;
+        this.campaignMatchingService = campaignMatchingService;
+        this.referenceDataSnapshot = referenceDataSnapshot;
+        this.spendLedger = spendLedger;
+        this.budgetPacer = budgetPacer;
+        this.reservePriceCents = Math.max(1, FundLedger.toCents(reservePrice));
+    }
+
+    /**
+     * Runs an auction and charges the winner the clearing price.
+     *
+     * @return the winning campaign, or empty if no campaign could win
+     * @throws IllegalArgumentException if the keywords are missing or too many, or the town does not exist
+     */
+    @Timed(ServiceMetrics.SERVICE_TIMER)
+    public Optional<AuctionResultDTO> runAuction(AuctionRequestDTO request) {
+        List<String> keywords = request.getKeywords();
+        if (keywords == null || keywords.isEmpty()) {
+            throw new IllegalArgumentException("At least one keyword is required");
+        }
+        if (keywords.size() > MAX_KEYWORDS) {
+            throw new IllegalArgumentException("At most " + MAX_KEYWORDS + " keywords are allowed");
+        }
+        Town town = null;
+        if (request.getTownId() != null) {
+            town = referenceDataSnapshot.findTown(request.getTownId());
+            if (town == null) {
+                throw new IllegalArgumentException("Town not found");
+            }
+        }
+
+        AuctionCandidates candidates = buffers.poll();
+        if (candidates == null) {
+            candidates = new AuctionCandidates(MAX_KEYWORDS * CANDIDATES_PER_KEYWORD);
+        }
+        try {
+            collect(candidates, keywords, town);
+            int winner;
+            while ((winner = candidates.best()) >= 0) {
+                CampaignMatchingIndex.Entry entry = candidates.get(winner);
+                long price = clearingPrice(candidates, winner);
+                long remaining = spendLedger.tryCharge(entry, price);
+                if (remaining >= 0) {
+                    budgetPacer.consume(entry.id(), price);
+                    if (remaining < entry.bidCents()) {
+                        campaignMatchingService.applyExhausted(entry.id(), remaining);
+                    }
+                    return Optional.of(toResult(entry, price, remaining, candidates.size()));
+                }
+                // Fund already spent by other auctions, let the others compete
+                candidates.remove(winner);
+            }
+            return Optional.empty();
+        } finally {
+            candidates.clear();
+            // Dropped when the pool is full, after a burst above its size
+            buffers.offer(candidates);
+        }
+    }
+
+    /**
+     * Fills the buffer with the paced campaigns that may serve the keywords at the town, taking at
+     * most {@value #CANDIDATES_PER_KEYWORD} of the highest bids per keyword.
+     *
+     * @param town requested location, or {@code null} for any location
+     */
+    void collect(AuctionCandidates candidates, List<String> keywords, Town town) {
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            if (keyword == null) {
+                continue;
+            }
+            CampaignMatchingIndex.Entry[] postings = matchingIndex.candidates(keyword.strip());
+            int taken = 0;
+            for (int i = 0; i < postings.length && taken < CANDIDATES_PER_KEYWORD; i++) {
+                CampaignMatchingIndex.Entry entry = postings[i];
+                if (entry.bidCents() < reservePriceCents) {
+                    // Postings are sorted by bid, the rest are lower still
+                    break;
+                }
+                if (budgetPacer.admits(entry) && entry.servesAt(town)) {
+                    if (!candidates.add(entry)) {
+                        return;
+                    }
+                    taken++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns what the candidate at {@code winner} pays: the highest competing bid, at least
+     * the reserve price and at most its own bid.
+     */
+    long clearingPrice(AuctionCandidates candidates, int winner) {
+        long bid = candidates.get(winner).bidCents();
+        return Math.min(bid, Math.max(reservePriceCents, candidates.runnerUpBid(winner)));
+    }
+
+    private static AuctionResultDTO toResult(CampaignMatchingIndex.Entry winner, long priceCents,
+                                             long remainingCents, int competitors) {
+        AuctionResultDTO result = new AuctionResultDTO();
+        result.setCampaignId(winner.id());
+        result.setCampaignName(winner.name());
+        result.setTownId(winner.townId());
+        result.setTownName(winner.townName());
+        result.setBidAmount(winner.bidAmount());
+        result.setClearingPrice(FundLedger.fromCents(priceCents));
+        result.setRemainingFund(FundLedger.fromCents(remainingCents));
+        result.setCompetitors(competitors - 1);
+        return result;
+    }
+}
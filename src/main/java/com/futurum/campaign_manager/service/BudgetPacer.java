@@ -0,0 +1,298 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spreads the fund of every ON campaign evenly over a flight window.
+ * <p>
+ * Each campaign gets a flight of {@code campaign-manager.pacing.flight-window-ms} starting when it
+ * is first planned, and a target spend rate of its remaining fund over the rest of the flight.
+ * The rate feeds a token bucket holding up to {@code campaign-manager.pacing.burst-ms} worth of
+ * spend, and never less than one bid. A campaign only takes part in matching and auctions
+ * while its bucket covers its bid, and every charge takes the clearing price out of it.
+ * </p>
+ *
+ * <p>
+ * Buckets are refilled by a {@link TimerWheel} ticking every {@code campaign-manager.pacing.tick-ms};
+ * each bucket is due again once it has had time to earn about one bid, so slow campaigns cost
+ * nothing between refills. The serving path never reads the clock: a check is one array read
+ * and one volatile read, a charge one atomic add. Every {@code campaign-manager.pacing.replan-interval-ms}
+ * the rates are recomputed from the actual remaining fund, so under-delivery is caught up
+ * and over-delivery slowed down; a campaign whose flight ended starts a new one.
+ * </p>
+ */
+@Component
+public class BudgetPacer {
+
+    static final long MICROS_PER_CENT = 1_000_000;
+    // Campaign identifiers come from a sequence, so a dense table holds all of them
+    private static final int MAX_TABLE_SIZE = 1 << 22;
+    private static final int WHEEL_SLOTS = 512;
+
+    private final CampaignMatchingIndex matchingIndex;
+    private final CampaignSpendLedger spendLedger;
+    private final Clock clock;
+    private final boolean enabled;
+    private final long flightMillis;
+    private final long burstMillis;
+    private final long tickMillis;
+    private final TimerWheel<Bucket> wheel;
+    private volatile Bucket[] table = new Bucket[1024];
+    private final Map<Long, Bucket> overflow = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BudgetPacer(CampaignMatchingIndex matchingIndex,
+                       CampaignSpendLedger spendLedger,
+                       Clock clock,
+                       @Value("${campaign-manager.pacing.enabled:true}") boolean enabled,
+                       @Value("${campaign-manager.pacing.flight-window-ms:86400000}") long flightMillis,
+                       @Value("${campaign-manager.pacing.burst-ms:60000}") long burstMillis,
+                       @Value("${campaign-manager.pacing.tick-ms:100}") long tickMillis) {
+        this.matchingIndex = matchingIndex;
+        this.spendLedger = spendLedger;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.flightMillis = flightMillis;
+        this.burstMillis = burstMillis;
+        this.tickMillis = tickMillis;
+        if (flightMillis <= 0 || burstMillis <= 0 || tickMillis <= 0) {
+            throw new IllegalArgumentException("Pacing flight window, burst and tick must be positive");
+        }
+        this.wheel = new TimerWheel<>(tickMillis, WHEEL_SLOTS, clock.millis());
+    }
+
+    /**
+     * Token bucket of one campaign. Tokens are micro-cents so slow rates do not round to zero.
+     */
+    private static final class Bucket {
+        private final AtomicLong tokens = new AtomicLong();
+        private volatile long thresholdMicros;
+        private long ratePerMilli;
+        private long capacityMicros;
+        private long flightEndMillis;
+        private long lastRefillMillis;
+        private boolean scheduled;
+        private boolean removed;
+    }
+
+    /**
+     * Returns whether the campaign may serve now. Campaigns that have not been planned yet
+     * are not throttled.
+     */
+    public boolean admits(CampaignMatchingIndex.Entry campaign) {
+        if (!enabled) {
+            return true;
+        }
+        Bucket bucket = bucket(campaign.id());
+        return bucket == null || bucket.tokens.get() >= bucket.thresholdMicros;
+    }
+
+    /**
+     * Takes a charge out of the campaign's bucket. The bucket may go below zero when
+     * concurrent auctions win at the same time; refills pay the difference back first.
+     */
+    public void consume(long campaignId, long amountCents) {
+        if (!enabled) {
+            return;
+        }
+        Bucket bucket = bucket(campaignId);
+        if (bucket != null) {
+            bucket.tokens.addAndGet(-amountCents * MICROS_PER_CENT);
+        }
+    }
+
+    /**
+     * Refills the buckets that are due.
+     */
+    @Scheduled(fixedRateString = "${campaign-manager.pacing.tick-ms:100}")
+    public synchronized void tick() {
+        long now = clock.millis();
+        wheel.advance(now, bucket -> {
+            bucket.scheduled = false;
+            if (!bucket.removed) {
+                refill(bucket, now);
+                schedule(bucket, now);
+            }
+        });
+    }
+
+    /**
+     * Recomputes the rate of every eligible campaign from its actual remaining fund and
+     * drops the buckets of campaigns that no longer serve.
+     */
+    @Scheduled(fixedDelayString = "${campaign-manager.pacing.replan-interval-ms:60000}")
+    public synchronized void replan() {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        for (CampaignMatchingIndex.Entry campaign : matchingIndex.entries()) {
+            if (campaign.isEligible()) {
+                long remaining = spendLedger.getRemainingCents(campaign.id());
+                plan(campaign.id(), remaining < 0 ? campaign.fundCents() : remaining, campaign.bidCents(), now, false);
+            } else {
+                remove(campaign.id());
+            }
+        }
+    }
+
+    /**
+     * Plans saved ON campaigns, which may serve one bid right away, and stops pacing the rest.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCampaignsSaved(CampaignsSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        for (CampaignDTO campaign : event.campaigns()) {
+            if (campaign.getStatus() == CampaignStatus.ON) {
+                plan(campaign.getId(), FundLedger.toCents(campaign.getCampaignFund()),
+                        FundLedger.toCents(campaign.getBidAmount()), now, true);
+            } else {
+                remove(campaign.getId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCampaignDeleted(CampaignDeletedEvent event) {
+        remove(event.campaignId());
+    }
+
+    /**
+     * Returns the planned spend rate of a campaign in cents per hour, or -1 if it is not paced.
+     */
+    public double getPlannedRatePerHour(long campaignId) {
+        Bucket bucket = bucket(campaignId);
+        synchronized (this) {
+            return bucket == null ? -1 : bucket.ratePerMilli * 3_600_000.0 / MICROS_PER_CENT;
+        }
+    }
+
+    /**
+     * Returns the current tokens of a campaign's bucket in cents, or -1 if it is not paced.
+     */
+    public long getAvailableCents(long campaignId) {
+        Bucket bucket = bucket(campaignId);
+        return bucket == null ? -1 : Math.floorDiv(bucket.tokens.get(), MICROS_PER_CENT);
+    }
+
+    private void plan(long campaignId, long remainingCents, long bidCents, long now, boolean saved) {
+        Bucket bucket = bucket(campaignId);
+        boolean created = bucket == null;
+        if (created) {
+            bucket = new Bucket();
+            bucket.flightEndMillis = now + flightMillis;
+            bucket.lastRefillMillis = now;
+        } else {
+            refill(bucket, now);
+            if (now >= bucket.flightEndMillis) {
+                bucket.flightEndMillis = now + flightMillis;
+            }
+        }
+        long flightLeft = Math.max(tickMillis, bucket.flightEndMillis - now);
+        bucket.ratePerMilli = Math.max(1, remainingCents * MICROS_PER_CENT / flightLeft);
+        bucket.thresholdMicros = bidCents * MICROS_PER_CENT;
+        bucket.capacityMicros = Math.max(bucket.thresholdMicros, saturatedMultiply(bucket.ratePerMilli, burstMillis));
+        if (created || saved) {
+            // Start with one bid so a new or edited campaign, for instance with a raised bid, serves right away
+            bucket.tokens.accumulateAndGet(bucket.thresholdMicros, Math::max);
+        }
+        clampToCapacity(bucket);
+        if (created) {
+            store(campaignId, bucket);
+        }
+        if (!bucket.scheduled) {
+            schedule(bucket, now);
+        }
+    }
+
+    private void refill(Bucket bucket, long now) {
+        long elapsed = now - bucket.lastRefillMillis;
+        if (elapsed <= 0) {
+            return;
+        }
+        bucket.lastRefillMillis = now;
+        bucket.tokens.addAndGet(saturatedMultiply(bucket.ratePerMilli, elapsed));
+        clampToCapacity(bucket);
+    }
+
+    private static void clampToCapacity(Bucket bucket) {
+        bucket.tokens.accumulateAndGet(bucket.capacityMicros, Math::min);
+    }
+
+    /**
+     * Schedules the next refill for when a held back bucket covers the bid again, or when a
+     * serving bucket has earned about one more bid, within one tick and one burst.
+     */
+    private void schedule(Bucket bucket, long now) {
+        long missing = bucket.thresholdMicros - bucket.tokens.get();
+        long delay = (missing > 0 ? missing : bucket.thresholdMicros) / bucket.ratePerMilli;
+        wheel.schedule(bucket, now + Math.min(burstMillis, Math.max(tickMillis, delay)));
+        bucket.scheduled = true;
+    }
+
+    private void remove(long campaignId) {
+        Bucket bucket = bucket(campaignId);
+        if (bucket == null) {
+            return;
+        }
+        // The wheel drops the bucket when it comes due
+        bucket.removed = true;
+        if (campaignId < MAX_TABLE_SIZE) {
+            Bucket[] current = table;
+            if (campaignId < current.length) {
+                current[(int) campaignId] = null;
+            }
+        } else {
+            overflow.remove(campaignId);
+        }
+    }
+
+    private Bucket bucket(long campaignId) {
+        Bucket[] current = table;
+        if (campaignId >= 0 && campaignId < current.length) {
+            return current[(int) campaignId];
+        }
+        return campaignId < MAX_TABLE_SIZE ? null : overflow.get(campaignId);
+    }
+
+    private void store(long campaignId, Bucket bucket) {
+        if (campaignId < 0 || campaignId >= MAX_TABLE_SIZE) {
+            overflow.put(campaignId, bucket);
+            return;
+        }
+        Bucket[] current = table;
+        if (campaignId >= current.length) {
+            int length = current.length;
+            while (length <= campaignId) {
+                length *= 2;
+            }
+            Bucket[] grown = new Bucket[length];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            grown[(int) campaignId] = bucket;
+            table = grown;
+        } else {
+            current[(int) campaignId] = bucket;
+        }
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        return (high == 0 && low >= 0) ? low : Long.MAX_VALUE;
+    }
+}
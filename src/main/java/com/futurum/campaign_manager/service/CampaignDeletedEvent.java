@@ -0,0 +1,9 @@
+package com.futurum.campaign_manager.service;
+
+/**
+ * Published by {@link CampaignService} when a campaign has been deleted.
+ *
+ * @param campaignId identifier of the deleted campaign
+ */
+public record CampaignDeletedEvent(Long campaignId) {
+}
@@ -0,0 +1,41 @@
+package com.futurum.campaign_manager.service;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by the campaign export.
+ */
+public enum CampaignExportFormat {
+
+    NDJSON("application/x-ndjson", "campaigns.ndjson"),
+    CSV("text/csv;charset=UTF-8", "campaigns.csv");
+
+    private final String contentType;
+    private final String fileName;
+
+    CampaignExportFormat(String contentType, String fileName) {
+        this.contentType = contentType;
+        this.fileName = fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Resolves the format from a request parameter, ignoring case.
+     *
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static CampaignExportFormat fromParameter(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+    }
+}
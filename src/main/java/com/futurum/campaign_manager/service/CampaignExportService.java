@@ -0,0 +1,175 @@
+package com.futurum.campaign_manager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futurum.campaign_manager.dto.CampaignExportRow;
+import com.futurum.campaign_manager.repository.CampaignRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service streaming all campaigns, with their town and keywords, to an output stream.
+ * <p>
+ * Rows are read from a forward-only database cursor and written as soon as each campaign is
+ * complete, so memory use does not depend on the number of campaigns exported. The query
+ * returns a flat projection ordered by campaign, which lets consecutive rows of the same
+ * campaign be folded into one record without holding more than a single campaign in memory.
+ * </p>
+ */
+@Service
+@Timed(ServiceMetrics.SERVICE_TIMER)
+public class CampaignExportService {
+
+    static final String CSV_HEADER = "ID,Campaign Name,Bid Amount,Fund,Status,Radius,Town,Keywords";
+
+    private final CampaignRepository campaignRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public CampaignExportService(CampaignRepository campaignRepository, ObjectMapper objectMapper) {
+        this.campaignRepository = campaignRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes every campaign to the given stream. The stream is flushed but not closed.
+     *
+     * @param format output format
+     * @param out    target stream, typically the HTTP response body
+     * @return number of campaigns written
+     */
+    @Transactional(readOnly = true)
+    public long export(CampaignExportFormat format, OutputStream out) throws IOException {
+        try (Stream<CampaignExportRow> rows = campaignRepository.streamForExport()) {
+            return switch (format) {
+                case NDJSON -> writeNdjson(rows.iterator(), out);
+                case CSV -> writeCsv(rows.iterator(), out);
+            };
+        }
+    }
+
+    private long writeNdjson(Iterator<CampaignExportRow> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long count = forEachCampaign(rows, (campaign, keywords) -> {
+            generator.writeStartObject();
+            generator.writeNumberField("id", campaign.id());
+            generator.writeStringField("campaignName", campaign.campaignName());
+            generator.writeNumberField("bidAmount", campaign.bidAmount());
+            generator.writeNumberField("campaignFund", campaign.campaignFund());
+            generator.writeStringField("status", campaign.status().name());
+            generator.writeNumberField("radius", campaign.radius());
+            if (campaign.townId() != null) {
+                generator.writeNumberField("townId", campaign.townId());
+                generator.writeStringField("townName", campaign.townName());
+            }
+            generator.writeArrayFieldStart("keywordTexts");
+            for (String keyword : keywords) {
+                generator.writeString(keyword);
+            }
+            generator.writeEndArray();
+            if (campaign.createdAt() != null) {
+                generator.writeStringField("createdAt", campaign.createdAt().toString());
+            }
+            if (campaign.updatedAt() != null) {
+                generator.writeStringField("updatedAt", campaign.updatedAt().toString());
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        });
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<CampaignExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = forEachCampaign(rows, (campaign, keywords) -> {
+            writer.write(campaign.id().toString());
+            writer.write(',');
+            writeCsvField(writer, campaign.campaignName());
+            writer.write(',');
+            writer.write(campaign.bidAmount().toPlainString());
+            writer.write(',');
+            writer.write(campaign.campaignFund().toPlainString());
+            writer.write(',');
+            writer.write(campaign.status().name());
+            writer.write(',');
+            writer.write(campaign.radius().toString());
+            writer.write(',');
+            writeCsvField(writer, campaign.townName());
+            writer.write(',');
+            writeCsvField(writer, String.join(", ", keywords));
+            writer.write('\n');
+        });
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Folds consecutive rows of the same campaign and hands each campaign to the consumer
+     * together with its keyword texts.
+     */
+    private static long forEachCampaign(Iterator<CampaignExportRow> rows, CampaignWriter consumer) throws IOException {
+        long count = 0;
+        CampaignExportRow current = null;
+        List<String> keywords = new ArrayList<>();
+        while (rows.hasNext()) {
+            CampaignExportRow row = rows.next();
+            if (current != null && !current.id().equals(row.id())) {
+                consumer.write(current, keywords);
+                count++;
+                keywords.clear();
+            }
+            current = row;
+            if (row.keywordText() != null) {
+                keywords.add(row.keywordText());
+            }
+        }
+        if (current != null) {
+            consumer.write(current, keywords);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes a CSV field, quoting it when it contains a separator, quote or line break.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @FunctionalInterface
+    private interface CampaignWriter {
+        void write(CampaignExportRow campaign, List<String> keywords) throws IOException;
+    }
+}
@@ -0,0 +1,269 @@
+package com.futurum.campaign_manager.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory grid index over the target areas of eligible campaigns.
+ * <p>
+ * Every campaign whose town has coordinates is a circle: the town is the center and the
+ * campaign radius, in kilometers, is the radius. The globe is split into cells of
+ * {@value #CELL_DEGREES} degrees. Each circle is registered in every cell its bounding box
+ * overlaps, so the campaigns covering a point are found by reading a single cell and checking
+ * the exact distance of its few candidates. Circles spanning more than {@value #MAX_CELLS}
+ * cells are kept in a separate list that every query checks, which bounds the cost of very
+ * wide campaigns. A second grid holds only the centers and answers distance queries by
+ * reading the cells around the origin.
+ * </p>
+ *
+ * <p>
+ * Like {@link CampaignMatchingIndex}, cell arrays are immutable and replaced on change, so
+ * queries never block; writers are serialized.
+ * </p>
+ */
+@Component
+public class CampaignGeoIndex {
+
+    static final double CELL_DEGREES = 0.5;
+    static final int MAX_CELLS = 400;
+    private static final int LAT_CELLS = (int) (180 / CELL_DEGREES);
+    private static final int LON_CELLS = (int) (360 / CELL_DEGREES);
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+    private static final Area[] EMPTY = new Area[0];
+
+    private final Map<Long, Area> areas = new ConcurrentHashMap<>();
+    private final Map<Integer, Area[]> coverageCells = new ConcurrentHashMap<>();
+    private final Map<Integer, Area[]> centerCells = new ConcurrentHashMap<>();
+    private volatile Area[] wideAreas = EMPTY;
+
+    /**
+     * Target area of one campaign.
+     *
+     * @param campaign  matching state of the campaign
+     * @param latitude  latitude of the campaign town
+     * @param longitude longitude of the campaign town
+     */
+    public record Area(CampaignMatchingIndex.Entry campaign, double latitude, double longitude) {
+
+        public long id() {
+            return campaign.id();
+        }
+
+        public double radiusKm() {
+            return campaign.radius();
+        }
+
+        boolean covers(double lat, double lon) {
+            return distanceKm(latitude, longitude, lat, lon) <= radiusKm();
+        }
+    }
+
+    /**
+     * A campaign found by a distance query, with its distance from the query origin.
+     */
+    public record Hit(Area area, double distanceKm) {
+    }
+
+    /**
+     * Replaces the indexed area of a campaign. Campaigns that are not eligible to serve
+     * or whose town has no coordinates are removed.
+     *
+     * @param campaign  current matching state of the campaign
+     * @param latitude  latitude of the campaign town, or {@code null}
+     * @param longitude longitude of the campaign town, or {@code null}
+     */
+    public synchronized void update(CampaignMatchingIndex.Entry campaign, Double latitude, Double longitude) {
+        remove(campaign.id());
+        if (!campaign.isEligible() || latitude == null || longitude == null) {
+            return;
+        }
+        Area area = new Area(campaign, latitude, longitude);
+        areas.put(area.id(), area);
+        add(centerCells, cellKey(latIndex(latitude), lonIndex(longitude)), area);
+        List<Integer> cells = coveredCells(latitude, longitude, area.radiusKm());
+        if (cells == null) {
+            wideAreas = with(wideAreas, area);
+        } else {
+            cells.forEach(cell -> add(coverageCells, cell, area));
+        }
+    }
+
+    /**
+     * Removes the area of a campaign.
+     */
+    public synchronized void remove(long campaignId) {
+        Area area = areas.remove(campaignId);
+        if (area == null) {
+            return;
+        }
+        remove(centerCells, cellKey(latIndex(area.latitude()), lonIndex(area.longitude())), area);
+        List<Integer> cells = coveredCells(area.latitude(), area.longitude(), area.radiusKm());
+        if (cells == null) {
+            wideAreas = without(wideAreas, area);
+        } else {
+            cells.forEach(cell -> remove(coverageCells, cell, area));
+        }
+    }
+
+    /**
+     * Returns whether the indexed area of the campaign contains the point.
+     */
+    public boolean covers(long campaignId, double latitude, double longitude) {
+        Area area = areas.get(campaignId);
+        return area != null && area.covers(latitude, longitude);
+    }
+
+    /**
+     * Finds the campaigns whose area contains the point.
+     *
+     * @return covering campaigns in no particular order
+     */
+    public List<Area> covering(double latitude, double longitude) {
+        List<Area> result = new ArrayList<>();
+        Area[] cell = coverageCells.getOrDefault(cellKey(latIndex(latitude), lonIndex(longitude)), EMPTY);
+        for (Area area : cell) {
+            if (area.covers(latitude, longitude)) {
+                result.add(area);
+            }
+        }
+        for (Area area : wideAreas) {
+            if (area.covers(latitude, longitude)) {
+                result.add(area);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the campaigns whose center lies within the given distance of the point.
+     *
+     * @return campaigns ordered by distance, nearest first
+     */
+    public List<Hit> within(double latitude, double longitude, double distanceKm) {
+        List<Hit> result = new ArrayList<>();
+        List<Integer> cells = coveredCells(latitude, longitude, distanceKm);
+        if (cells == null) {
+            // The search area spans most of the grid, checking every center is cheaper
+            for (Area area : areas.values()) {
+                collect(area, latitude, longitude, distanceKm, result);
+            }
+        } else {
+            for (int cell : cells) {
+                for (Area area : centerCells.getOrDefault(cell, EMPTY)) {
+                    collect(area, latitude, longitude, distanceKm, result);
+                }
+            }
+        }
+        result.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparingLong(hit -> hit.area().id()));
+        return result;
+    }
+
+    /**
+     * Returns the number of indexed campaign areas.
+     */
+    public int size() {
+        return areas.size();
+    }
+
+    /**
+     * Great-circle distance between two points, in kilometers (haversine formula).
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static void collect(Area area, double latitude, double longitude, double distanceKm, List<Hit> result) {
+        double distance = distanceKm(latitude, longitude, area.latitude(), area.longitude());
+        if (distance <= distanceKm) {
+            result.add(new Hit(area, distance));
+        }
+    }
+
+    /**
+     * Returns the cells overlapped by the bounding box of a circle,
+     * or {@code null} if there are more than {@value #MAX_CELLS} of them.
+     */
+    private static List<Integer> coveredCells(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+        // The widest parallel inside the box decides the longitude span
+        double widest = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double cos = Math.cos(Math.toRadians(Math.min(widest, 89.9)));
+        double lonDelta = radiusKm / (KM_PER_DEGREE * cos);
+
+        int minLatIndex = latIndex(minLat);
+        int maxLatIndex = latIndex(maxLat);
+        int lonSpan = lonDelta >= 180 ? LON_CELLS
+                : lonIndexUnwrapped(longitude + lonDelta) - lonIndexUnwrapped(longitude - lonDelta) + 1;
+        long count = (long) (maxLatIndex - minLatIndex + 1) * Math.min(lonSpan, LON_CELLS);
+        if (count > MAX_CELLS) {
+            return null;
+        }
+
+        int firstLon = lonIndexUnwrapped(longitude - lonDelta);
+        List<Integer> cells = new ArrayList<>((int) count);
+        for (int lat = minLatIndex; lat <= maxLatIndex; lat++) {
+            for (int i = 0; i < Math.min(lonSpan, LON_CELLS); i++) {
+                cells.add(cellKey(lat, Math.floorMod(firstLon + i, LON_CELLS)));
+            }
+        }
+        return cells;
+    }
+
+    private static int latIndex(double latitude) {
+        return Math.min(LAT_CELLS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int lonIndex(double longitude) {
+        return Math.floorMod(lonIndexUnwrapped(longitude), LON_CELLS);
+    }
+
+    private static int lonIndexUnwrapped(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static int cellKey(int latIndex, int lonIndex) {
+        return latIndex * LON_CELLS + lonIndex;
+    }
+
+    private static void add(Map<Integer, Area[]> cells, int cell, Area area) {
+        cells.compute(cell, (key, current) -> with(current == null ? EMPTY : current, area));
+    }
+
+    private static void remove(Map<Integer, Area[]> cells, int cell, Area area) {
+        cells.computeIfPresent(cell, (key, current) -> {
+            Area[] updated = without(current, area);
+            return updated.length == 0 ? null : updated;
+        });
+    }
+
+    private static Area[] with(Area[] current, Area area) {
+        Area[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = area;
+        return updated;
+    }
+
+    private static Area[] without(Area[] current, Area area) {
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].id() == area.id()) {
+                Area[] updated = new Area[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                return updated;
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,108 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignImportStatusDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Progress of one campaign CSV import.
+ * <p>
+ * Written only by the thread running the import and read by request threads polling for
+ * progress, so counters are volatile and the error list is guarded by its own lock.
+ * At most {@value #MAX_REPORTED_ERRORS} errors are kept; further ones are only counted.
+ * </p>
+ */
+class CampaignImportJob {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final String fileName;
+    private final long totalBytes;
+    private final List<CampaignImportStatusDTO.LineError> errors = new ArrayList<>();
+
+    private volatile State state = State.QUEUED;
+    private volatile long bytesRead;
+    private volatile long rowsProcessed;
+    private volatile long imported;
+    private volatile long failed;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    CampaignImportJob(String id, String fileName, long totalBytes) {
+        this.id = id;
+        this.fileName = fileName;
+        this.totalBytes = totalBytes;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        state = State.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String reason) {
+        message = reason;
+        finishedAt = LocalDateTime.now();
+        state = State.FAILED;
+    }
+
+    void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+
+    void rowsProcessed(long rows) {
+        rowsProcessed += rows;
+    }
+
+    void imported(long rows) {
+        imported += rows;
+    }
+
+    void rejected(long line, String reason) {
+        failed++;
+        synchronized (errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new CampaignImportStatusDTO.LineError(line, reason));
+            }
+        }
+    }
+
+    CampaignImportStatusDTO toStatus() {
+        CampaignImportStatusDTO status = new CampaignImportStatusDTO();
+        status.setJobId(id);
+        status.setFileName(fileName);
+        status.setStatus(state.name());
+        status.setRowsProcessed(rowsProcessed);
+        status.setImported(imported);
+        status.setFailed(failed);
+        status.setProgressPercent(state == State.COMPLETED ? 100
+                : totalBytes <= 0 ? 0 : (int) Math.min(99, bytesRead * 100 / totalBytes));
+        synchronized (errors) {
+            status.setErrors(List.copyOf(errors));
+        }
+        status.setMessage(message);
+        status.setStartedAt(startedAt);
+        status.setFinishedAt(finishedAt);
+        return status;
+    }
+}
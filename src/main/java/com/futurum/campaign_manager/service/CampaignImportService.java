@@ -0,0 +1,431 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignBulkResultDTO;
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignImportStatusDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import com.futurum.campaign_manager.repository.TownRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Service importing campaigns from CSV files in the background.
+ * <p>
+ * The uploaded file is copied to a temporary file and processed by a dedicated import thread,
+ * so the upload request returns immediately with a job identifier that can be polled for
+ * progress. The file is read one record at a time and handled in chunks: the rows of a chunk
+ * are parsed and validated in parallel, then the valid ones are saved through
+ * {@link CampaignService#saveCampaigns(List)}, which commits the chunk in one transaction with
+ * a single fund reservation and batched inserts.
+ * </p>
+ *
+ * <p>
+ * Town and keyword names are resolved with {@link TownRepository#findByTownName(String)} and
+ * {@link KeywordRepository#findByKeywordText(String)}; each distinct name is looked up once
+ * per import. Rows that cannot be imported are reported with their line number.
+ * </p>
+ *
+ * <p>
+ * Expected header columns, matched ignoring case, spaces and underscores:
+ * {@code name}, {@code bid}, {@code fund}, {@code status}, {@code town} and {@code keywords}
+ * (texts separated by commas or semicolons), plus an optional {@code radius}. The column
+ * names of the campaign export are accepted as well, so exported files can be re-imported.
+ * </p>
+ */
+@Service
+@Timed(ServiceMetrics.SERVICE_TIMER)
+public class CampaignImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CampaignImportService.class);
+
+    static final int MAX_RETAINED_JOBS = 100;
+    private static final Pattern KEYWORD_SEPARATOR = Pattern.compile("[,;]");
+
+    private final CampaignService campaignService;
+    private final TownRepository townRepository;
+    private final KeywordRepository keywordRepository;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int defaultRadius;
+
+    private final ExecutorService importExecutor;
+    // Parsing and validation only use the CPU, so they stay on platform threads even when
+    // virtual threads are enabled; virtual threads would not add parallelism
+    private final ForkJoinPool validationPool;
+    private final Map<String, CampaignImportJob> jobs = new ConcurrentHashMap<>();
+    private final Deque<String> jobOrder = new ConcurrentLinkedDeque<>();
+
+    @Autowired
+    public CampaignImportService(CampaignService campaignService,
+                                 TownRepository townRepository,
+                                 KeywordRepository keywordRepository,
+                                 Validator validator,
+                                 @Value("${campaign-manager.import.chunk-size:1000}") int chunkSize,
+                                 @Value("${campaign-manager.import.default-radius:10}") int defaultRadius,
+                                 @Value("${campaign-manager.import.parallelism:0}") int parallelism,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.campaignService = campaignService;
+        this.townRepository = townRepository;
+        this.keywordRepository = keywordRepository;
+        this.validator = validator;
+        this.chunkSize = Math.max(1, Math.min(chunkSize, CampaignService.MAX_BULK_SIZE));
+        this.defaultRadius = defaultRadius;
+        this.importExecutor = WorkerThreads.newSingleThreadExecutor("campaign-import", virtualThreads);
+        this.validationPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Stores the CSV content and queues it for import.
+     *
+     * @param fileName original name of the uploaded file, used for reporting only
+     * @param content  CSV content; fully consumed before this method returns
+     * @return initial status of the queued job
+     * @throws IllegalArgumentException if the content is empty
+     */
+    public CampaignImportStatusDTO startImport(String fileName, InputStream content) throws IOException {
+        Path file = Files.createTempFile("campaign-import-", ".csv");
+        try {
+            long size = Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+            if (size == 0) {
+                throw new IllegalArgumentException("CSV file is empty");
+            }
+
+            CampaignImportJob job = new CampaignImportJob(UUID.randomUUID().toString(), fileName, size);
+            register(job);
+            importExecutor.execute(() -> run(job, file));
+            return job.toStatus();
+        } catch (RuntimeException | IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the current progress of an import job.
+     */
+    public Optional<CampaignImportStatusDTO> getImportStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(CampaignImportJob::toStatus);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        importExecutor.shutdownNow();
+        validationPool.shutdownNow();
+    }
+
+    private void register(CampaignImportJob job) {
+        jobs.put(job.getId(), job);
+        jobOrder.addLast(job.getId());
+        // Forget the oldest finished jobs; running ones are kept until they finish
+        while (jobOrder.size() > MAX_RETAINED_JOBS) {
+            String oldest = jobOrder.peekFirst();
+            CampaignImportJob oldestJob = oldest == null ? null : jobs.get(oldest);
+            if (oldestJob != null && !oldestJob.isFinished()) {
+                break;
+            }
+            jobOrder.remove(oldest);
+            jobs.remove(oldest);
+        }
+    }
+
+    private void run(CampaignImportJob job, Path file) {
+        job.start();
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(file));
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            CsvRecordReader csv = new CsvRecordReader(reader);
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV file is empty");
+            }
+            Columns columns = Columns.of(header);
+            Lookups lookups = new Lookups();
+
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                chunk.add(new Row(csv.getRecordLineNumber(), record));
+                if (chunk.size() == chunkSize) {
+                    processChunk(job, columns, lookups, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                    job.setBytesRead(in.getCount());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, columns, lookups, chunk);
+            }
+            job.complete();
+        } catch (Exception e) {
+            log.error("Campaign import {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file, e);
+            }
+        }
+    }
+
+    private void processChunk(CampaignImportJob job, Columns columns, Lookups lookups, List<Row> chunk) {
+        List<ParsedRow> parsed = validationPool
+                .submit(() -> chunk.parallelStream().map(row -> parse(row, columns, lookups)).toList())
+                .join();
+
+        List<ParsedRow> valid = new ArrayList<>(parsed.size());
+        for (ParsedRow row : parsed) {
+            if (row.error() != null) {
+                job.rejected(row.line(), row.error());
+            } else {
+                valid.add(row);
+            }
+        }
+        job.rowsProcessed(chunk.size());
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<CampaignBulkResultDTO> results = campaignService.saveCampaigns(
+                    valid.stream().map(ParsedRow::campaign).toList());
+            long imported = 0;
+            for (int i = 0; i < results.size(); i++) {
+                CampaignBulkResultDTO result = results.get(i);
+                if (result.isSuccess()) {
+                    imported++;
+                } else {
+                    job.rejected(valid.get(i).line(), result.getError());
+                }
+            }
+            job.imported(imported);
+        } catch (IllegalArgumentException e) {
+            // The whole chunk was rolled back, e.g. because the account cannot cover it
+            valid.forEach(row -> job.rejected(row.line(), e.getMessage()));
+        }
+    }
+
+    private ParsedRow parse(Row row, Columns columns, Lookups lookups) {
+        try {
+            CampaignDTO dto = new CampaignDTO();
+            dto.setCampaignName(columns.value(row, Columns.NAME));
+            dto.setBidAmount(parseDecimal(columns.value(row, Columns.BID), "bid amount"));
+            dto.setCampaignFund(parseDecimal(columns.value(row, Columns.FUND), "campaign fund"));
+            dto.setStatus(parseStatus(columns.value(row, Columns.STATUS)));
+            String radius = columns.value(row, Columns.RADIUS);
+            dto.setRadius(radius.isEmpty() ? defaultRadius : parseInteger(radius, "radius"));
+
+            String townName = columns.value(row, Columns.TOWN);
+            if (!townName.isEmpty()) {
+                dto.setTownId(lookups.townId(townName)
+                        .orElseThrow(() -> new IllegalArgumentException("Town not found: " + townName)));
+            }
+
+            Set<Long> keywordIds = new HashSet<>();
+            for (String text : KEYWORD_SEPARATOR.split(columns.value(row, Columns.KEYWORDS))) {
+                String keyword = text.trim();
+                if (!keyword.isEmpty()) {
+                    keywordIds.add(lookups.keywordId(keyword)
+                            .orElseThrow(() -> new IllegalArgumentException("Keyword not found: " + keyword)));
+                }
+            }
+            dto.setKeywordIds(keywordIds);
+
+            Set<ConstraintViolation<CampaignDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                return ParsedRow.rejected(row.line(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            }
+            return new ParsedRow(row.line(), dto, null);
+        } catch (IllegalArgumentException e) {
+            return ParsedRow.rejected(row.line(), e.getMessage());
+        }
+    }
+
+    private static BigDecimal parseDecimal(String value, String field) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private static Integer parseInteger(String value, String field) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private static CampaignStatus parseStatus(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return CampaignStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + value);
+        }
+    }
+
+    private record Row(long line, List<String> fields) {
+    }
+
+    private record ParsedRow(long line, CampaignDTO campaign, String error) {
+        static ParsedRow rejected(long line, String error) {
+            return new ParsedRow(line, null, error);
+        }
+    }
+
+    /**
+     * Positions of the known columns in the header of the imported file.
+     */
+    private static final class Columns {
+        static final int NAME = 0;
+        static final int BID = 1;
+        static final int FUND = 2;
+        static final int STATUS = 3;
+        static final int RADIUS = 4;
+        static final int TOWN = 5;
+        static final int KEYWORDS = 6;
+
+        private static final Map<String, Integer> ALIASES = Map.ofEntries(
+                Map.entry("name", NAME), Map.entry("campaignname", NAME),
+                Map.entry("bid", BID), Map.entry("bidamount", BID),
+                Map.entry("fund", FUND), Map.entry("campaignfund", FUND),
+                Map.entry("status", STATUS),
+                Map.entry("radius", RADIUS),
+                Map.entry("town", TOWN), Map.entry("townname", TOWN),
+                Map.entry("keywords", KEYWORDS), Map.entry("keywordtexts", KEYWORDS));
+        private static final String[] NAMES = {"name", "bid", "fund", "status", "radius", "town", "keywords"};
+
+        private final int[] positions;
+
+        private Columns(int[] positions) {
+            this.positions = positions;
+        }
+
+        static Columns of(List<String> header) {
+            int[] positions = {-1, -1, -1, -1, -1, -1, -1};
+            for (int i = 0; i < header.size(); i++) {
+                String key = header.get(i).toLowerCase(Locale.ROOT).replaceAll("[\\s_]", "");
+                Integer column = ALIASES.get(key);
+                if (column != null && positions[column] < 0) {
+                    positions[column] = i;
+                }
+            }
+            for (int column : new int[]{NAME, BID, FUND, STATUS, TOWN, KEYWORDS}) {
+                if (positions[column] < 0) {
+                    throw new IllegalArgumentException("Missing CSV column: " + NAMES[column]);
+                }
+            }
+            return new Columns(positions);
+        }
+
+        String value(Row row, int column) {
+            int position = positions[column];
+            return position < 0 || position >= row.fields().size() ? "" : row.fields().get(position).trim();
+        }
+    }
+
+    /**
+     * Per-import cache of town and keyword identifiers by name, shared by the validation threads.
+     */
+    private final class Lookups {
+        private final Map<String, Optional<Long>> townIds = new ConcurrentHashMap<>();
+        private final Map<String, Optional<Long>> keywordIds = new ConcurrentHashMap<>();
+
+        Optional<Long> townId(String townName) {
+            return cached(townIds, townName, name -> townRepository.findByTownName(name).map(Town::getId));
+        }
+
+        Optional<Long> keywordId(String keywordText) {
+            return cached(keywordIds, keywordText, text -> keywordRepository.findByKeywordText(text).map(Keyword::getId));
+        }
+
+        private static Optional<Long> cached(Map<String, Optional<Long>> cache, String key,
+                                             Function<String, Optional<Long>> loader) {
+            Optional<Long> id = cache.get(key);
+            if (id == null) {
+                // Not computeIfAbsent: the query must not run while holding the map's bin lock
+                id = loader.apply(key);
+                cache.putIfAbsent(key, id);
+            }
+            return id;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Town;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory inverted index from keyword text to the campaigns eligible to serve for it.
+ * <p>
+ * A campaign is eligible while its status is {@link CampaignStatus#ON} and its remaining fund
+ * covers at least one bid. For every keyword the index holds an array of eligible campaigns
+ * sorted by bid, highest first, so a lookup walks the array from the start and stops after
+ * {@code limit} matches.
+ * </p>
+ *
+ * <p>
+ * Posting arrays are immutable and replaced on every change, so lookups never block and
+ * always see a consistent array. Writers are serialized. Each change costs a copy of the
+ * posting arrays of the campaign's keywords, which is cheap next to the database write that
+ * caused it.
+ * </p>
+ *
+ * <p>
+ * Removed campaigns leave a tombstone with their deletion time for
+ * {@link #TOMBSTONE_RETENTION}, so a save event of an earlier update that is delivered
+ * after the delete cannot bring the campaign back.
+ * </p>
+ */
+@Component
+public class CampaignMatchingIndex {
+
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final Comparator<Entry> BY_BID = Comparator.comparingLong(Entry::bidCents).reversed()
+            .thenComparingLong(Entry::id);
+
+    private final Map<Long, Entry> campaigns = new ConcurrentHashMap<>();
+    private final Map<String, Entry[]> postings = new ConcurrentHashMap<>();
+
+    static final Duration TOMBSTONE_RETENTION = Duration.ofMinutes(10);
+
+    /** Deletion times of removed campaigns in removal order, guarded by the writer lock. */
+    private final LinkedHashMap<Long, LocalDateTime> tombstones = new LinkedHashMap<>();
+
+    /**
+     * A campaign as seen by the matching engine.
+     *
+     * @param id          campaign identifier
+     * @param name        campaign name
+     * @param bidCents    bid amount in cents
+     * @param fundCents   remaining campaign fund in cents
+     * @param status      campaign status
+     * @param townId      target town, {@code null} for campaigns without location targeting
+     * @param townName    name of the target town
+     * @param townLatitude  latitude of the target town, {@link Double#NaN} if unknown
+     * @param townLongitude longitude of the target town, {@link Double#NaN} if unknown
+     * @param radius      targeting radius in kilometers
+     * @param keywords    keyword texts of the campaign
+     * @param updatedAt   last modification time, used to ignore out-of-order changes
+     */
+    public record Entry(long id, String name, long bidCents, long fundCents, CampaignStatus status,
+                        Long townId, String townName, double townLatitude, double townLongitude, int radius,
+                        Set<String> keywords, LocalDateTime updatedAt) {
+
+        static Entry of(CampaignDTO campaign, Double townLatitude, Double townLongitude) {
+            return new Entry(campaign.getId(), campaign.getCampaignName(),
+                    FundLedger.toCents(campaign.getBidAmount()), FundLedger.toCents(campaign.getCampaignFund()),
+                    campaign.getStatus(), campaign.getTownId(), campaign.getTownName(),
+                    townLatitude == null || townLongitude == null ? Double.NaN : townLatitude,
+                    townLatitude == null || townLongitude == null ? Double.NaN : townLongitude,
+                    campaign.getRadius() == null ? 0 : campaign.getRadius(),
+                    campaign.getKeywordTexts() == null ? Set.of() : Set.copyOf(campaign.getKeywordTexts()),
+                    campaign.getUpdatedAt());
+        }
+
+        /**
+         * Returns whether the location of the target town is known.
+         */
+        public boolean hasTownLocation() {
+            return !Double.isNaN(townLatitude) && !Double.isNaN(townLongitude);
+        }
+
+        /**
+         * Returns whether the campaign may serve at the town: it is not location targeted,
+         * targets the town itself, or the town lies within its radius. Uses the town location
+         * held by the entry, so it allocates nothing and can be called for every candidate on
+         * hot paths.
+         *
+         * @param town requested location, or {@code null} for any location
+         */
+        public boolean servesAt(Town town) {
+            if (town == null || townId == null || townId.equals(town.getId())) {
+                return true;
+            }
+            if (!hasTownLocation() || town.getLatitude() == null || town.getLongitude() == null) {
+                return false;
+            }
+            return CampaignGeoIndex.distanceKm(townLatitude, townLongitude,
+                    town.getLatitude(), town.getLongitude()) <= radius;
+        }
+
+        public boolean isEligible() {
+            return status == CampaignStatus.ON && bidCents > 0 && fundCents >= bidCents;
+        }
+
+        public BigDecimal bidAmount() {
+            return FundLedger.fromCents(bidCents);
+        }
+
+        public BigDecimal campaignFund() {
+            return FundLedger.fromCents(fundCents);
+        }
+    }
+
+    /**
+     * Adds a campaign or replaces its previous state. A state older than the one already
+     * indexed, or not newer than a recent removal of the campaign, is ignored, so changes
+     * delivered out of order cannot roll the index back.
+     *
+     * @param campaign saved campaign with identifier and keyword texts
+     */
+    public void upsert(CampaignDTO campaign) {
+        upsert(campaign, null, null);
+    }
+
+    /**
+     * Adds a campaign with the location of its town, or replaces its previous state.
+     *
+     * @param campaign      saved campaign with identifier and keyword texts
+     * @param townLatitude  latitude of the campaign town, or {@code null} if unknown
+     * @param townLongitude longitude of the campaign town, or {@code null} if unknown
+     * @see #upsert(CampaignDTO)
+     */
+    public synchronized void upsert(CampaignDTO campaign, Double townLatitude, Double townLongitude) {
+        pruneTombstones(LocalDateTime.now());
+        LocalDateTime deletedAt = tombstones.get(campaign.getId());
+        if (deletedAt != null && (campaign.getUpdatedAt() == null || !campaign.getUpdatedAt().isAfter(deletedAt))) {
+            return;
+        }
+        tombstones.remove(campaign.getId());
+        Entry previous = campaigns.get(campaign.getId());
+        if (previous != null && previous.updatedAt() != null && campaign.getUpdatedAt() != null
+                && campaign.getUpdatedAt().isBefore(previous.updatedAt())) {
+            return;
+        }
+        Entry entry = Entry.of(campaign, townLatitude, townLongitude);
+        if (previous != null) {
+            removePostings(previous);
+        }
+        campaigns.put(entry.id(), entry);
+        if (entry.isEligible()) {
+            addPostings(entry);
+        }
+    }
+
+    /**
+     * Marks a campaign whose fund no longer covers its bid as OFF with its remaining fund,
+     * which takes it out of matching. Unlike {@link #upsert}, the modification time is kept,
+     * since spending is not an edit.
+     *
+     * @return the new state of the campaign, or {@code null} if it is not indexed
+     */
+    public synchronized Entry exhaust(long campaignId, long remainingCents) {
+        Entry previous = campaigns.get(campaignId);
+        if (previous == null) {
+            return null;
+        }
+        Entry entry = new Entry(previous.id(), previous.name(), previous.bidCents(), remainingCents,
+                CampaignStatus.OFF, previous.townId(), previous.townName(), previous.townLatitude(),
+                previous.townLongitude(), previous.radius(),
+                previous.keywords(), previous.updatedAt());
+        removePostings(previous);
+        campaigns.put(entry.id(), entry);
+        if (entry.isEligible()) {
+            addPostings(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Removes a deleted campaign from the index and remembers when it was deleted.
+     */
+    public void remove(long campaignId) {
+        remove(campaignId, LocalDateTime.now());
+    }
+
+    synchronized void remove(long campaignId, LocalDateTime deletedAt) {
+        Entry previous = campaigns.remove(campaignId);
+        if (previous != null) {
+            removePostings(previous);
+        }
+        pruneTombstones(LocalDateTime.now());
+        tombstones.remove(campaignId);
+        tombstones.put(campaignId, deletedAt);
+    }
+
+    /**
+     * Returns eligible campaigns for a keyword, highest bid first.
+     *
+     * @param keyword  exact keyword text
+     * @param location filter applied to each candidate, or {@code null} to accept all
+     * @param limit    maximum number of results
+     */
+    public List<Entry> match(String keyword, LocationFilter location, int limit) {
+        Entry[] candidates = postings.getOrDefault(keyword, EMPTY);
+        List<Entry> result = new ArrayList<>(Math.min(limit, 16));
+        for (int i = 0; i < candidates.length && result.size() < limit; i++) {
+            Entry entry = candidates[i];
+            if (location == null || location.accepts(entry)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the eligible campaigns for a keyword, highest bid first, without copying.
+     * The returned array is shared and must not be modified.
+     */
+    Entry[] candidates(String keyword) {
+        return postings.getOrDefault(keyword, EMPTY);
+    }
+
+    /**
+     * Returns the indexed state of a campaign, eligible or not.
+     */
+    public Entry get(long campaignId) {
+        return campaigns.get(campaignId);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of all indexed campaigns, eligible or not.
+     */
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(campaigns.values());
+    }
+
+    /**
+     * Returns the number of indexed campaigns, including ineligible ones.
+     */
+    public int size() {
+        return campaigns.size();
+    }
+
+    /**
+     * Decides whether a candidate campaign may serve at the requested location.
+     */
+    @FunctionalInterface
+    public interface LocationFilter {
+        boolean accepts(Entry entry);
+    }
+
+    private void pruneTombstones(LocalDateTime now) {
+        LocalDateTime expiredBefore = now.minus(TOMBSTONE_RETENTION);
+        Iterator<LocalDateTime> oldestFirst = tombstones.values().iterator();
+        while (oldestFirst.hasNext() && oldestFirst.next().isBefore(expiredBefore)) {
+            oldestFirst.remove();
+        }
+    }
+
+    private void addPostings(Entry entry) {
+        for (String keyword : entry.keywords()) {
+            postings.compute(keyword, (key, current) -> {
+                Entry[] existing = current == null ? EMPTY : current;
+                int position = Arrays.binarySearch(existing, entry, BY_BID);
+                int insertAt = position < 0 ? -position - 1 : position;
+                Entry[] updated = new Entry[existing.length + 1];
+                System.arraycopy(existing, 0, updated, 0, insertAt);
+                updated[insertAt] = entry;
+                System.arraycopy(existing, insertAt, updated, insertAt + 1, existing.length - insertAt);
+                return updated;
+            });
+        }
+    }
+
+    private void removePostings(Entry entry) {
+        if (!entry.isEligible()) {
+            return;
+        }
+        for (String keyword : entry.keywords()) {
+            postings.computeIfPresent(keyword, (key, current) -> {
+                int position = Arrays.binarySearch(current, entry, BY_BID);
+                if (position < 0) {
+                    return current;
+                }
+                if (current.length == 1) {
+                    return null;
+                }
+                Entry[] updated = new Entry[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, position);
+                System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+                return updated;
+            });
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignMatchDTO;
+import com.futurum.campaign_manager.dto.CampaignPageDTO;
+import com.futurum.campaign_manager.model.Town;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Service answering which campaigns should serve for a keyword at a location.
+ * <p>
+ * Lookups are served entirely from {@link CampaignMatchingIndex}. The index is loaded page by
+ * page on startup and kept current by listening to {@link CampaignsSavedEvent} and
+ * {@link CampaignDeletedEvent}; both are applied only after the transaction that produced
+ * them commits, so rolled back changes never become visible.
+ * </p>
+ *
+ * <p>
+ * A campaign targeted at a town serves everywhere within its radius of that town; if either
+ * town has no coordinates, only the town itself matches. Campaigns without a town are not
+ * location targeted and match any location. Point and distance queries are answered by
+ * {@link CampaignGeoIndex}.
+ * </p>
+ *
+ * <p>
+ * Keyword matches leave out campaigns that {@link BudgetPacer} currently holds back.
+ * </p>
+ */
+@Service
+public class CampaignMatchingService {
+
+    private static final Logger log = LoggerFactory.getLogger(CampaignMatchingService.class);
+
+    static final int DEFAULT_MATCH_LIMIT = 10;
+    static final int MAX_MATCH_LIMIT = 100;
+    static final double MAX_DISTANCE_KM = 20_100;
+
+    private final CampaignService campaignService;
+    private final CampaignMatchingIndex matchingIndex;
+    private final CampaignGeoIndex geoIndex;
+    private final ReferenceDataSnapshot referenceDataSnapshot;
+    private final BudgetPacer budgetPacer;
+
+    @Autowired
+    public CampaignMatchingService(CampaignService campaignService,
+                                   CampaignMatchingIndex matchingIndex,
+                                   CampaignGeoIndex geoIndex,
+                                   ReferenceDataSnapshot referenceDataSnapshot,
+                                   BudgetPacer budgetPacer) {
+        this.campaignService = campaignService;
+        this.matchingIndex = matchingIndex;
+        this.geoIndex = geoIndex;
+        this.referenceDataSnapshot = referenceDataSnapshot;
+        this.budgetPacer = budgetPacer;
+    }
+
+    /**
+     * Loads all campaigns into the matching index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildMatchingIndex() {
+        String cursor = null;
+        do {
+            CampaignPageDTO page = campaignService.getCampaignPage(cursor, CampaignService.MAX_PAGE_SIZE);
+            page.getCampaigns().forEach(this::index);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        log.info("Campaign matching index loaded with {} campaigns", matchingIndex.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignsSaved(CampaignsSavedEvent event) {
+        event.campaigns().forEach(this::index);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignDeleted(CampaignDeletedEvent event) {
+        matchingIndex.remove(event.campaignId());
+        geoIndex.remove(event.campaignId());
+    }
+
+    /**
+     * Returns ON campaigns with enough fund and pacing budget left for the keyword, highest bid first.
+     *
+     * @param keyword exact keyword text
+     * @param townId  requested location, or {@code null} for any location
+     * @param limit   maximum number of results, capped at {@value #MAX_MATCH_LIMIT};
+     *                {@code null} uses {@value #DEFAULT_MATCH_LIMIT}
+     * @throws IllegalArgumentException if the keyword is blank or the limit is below 1
+     */
+    @Timed(ServiceMetrics.SERVICE_TIMER)
+    public List<CampaignMatchDTO> match(String keyword, Long townId, Integer limit) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("Keyword is required");
+        }
+        int matchLimit = resolveLimit(limit);
+
+        Town town = townId == null ? null : findTown(townId);
+        CampaignMatchingIndex.LocationFilter filter = entry -> budgetPacer.admits(entry) && entry.servesAt(town);
+        return matchingIndex.match(keyword.trim(), filter, matchLimit).stream()
+                .map(CampaignMatchingService::toDTO)
+                .toList();
+    }
+
+    /**
+     * Returns located campaigns whose radius covers the point, highest bid first.
+     *
+     * @throws IllegalArgumentException if the coordinates are out of range or the limit is below 1
+     */
+    @Timed(ServiceMetrics.SERVICE_TIMER)
+    public List<CampaignMatchDTO> findCovering(double latitude, double longitude, Integer limit) {
+        validateCoordinates(latitude, longitude);
+        int matchLimit = resolveLimit(limit);
+        // Charges update only the matching index, so read the current state from there
+        return geoIndex.covering(latitude, longitude).stream()
+                .map(area -> matchingIndex.get(area.id()))
+                .filter(entry -> entry != null && entry.isEligible())
+                .sorted(Comparator.comparingLong(CampaignMatchingIndex.Entry::bidCents).reversed()
+                        .thenComparingLong(CampaignMatchingIndex.Entry::id))
+                .limit(matchLimit)
+                .map(CampaignMatchingService::toDTO)
+                .toList();
+    }
+
+    /**
+     * Returns located campaigns whose town lies within the distance of the given town, nearest first.
+     *
+     * @throws IllegalArgumentException if the town does not exist or has no coordinates,
+     *                                  or the distance or limit are out of range
+     */
+    @Timed(ServiceMetrics.SERVICE_TIMER)
+    public List<CampaignMatchDTO> findNear(Long townId, double distanceKm, Integer limit) {
+        if (distanceKm < 0 || distanceKm > MAX_DISTANCE_KM) {
+            throw new IllegalArgumentException("Distance must be between 0 and " + (int) MAX_DISTANCE_KM + " km");
+        }
+        int matchLimit = resolveLimit(limit);
+        Town town = findTown(townId);
+        if (town.getLatitude() == null || town.getLongitude() == null) {
+            throw new IllegalArgumentException("Town has no coordinates");
+        }
+        return geoIndex.within(town.getLatitude(), town.getLongitude(), distanceKm).stream()
+                .<CampaignMatchDTO>mapMulti((hit, matches) -> {
+                    CampaignMatchingIndex.Entry entry = matchingIndex.get(hit.area().id());
+                    if (entry != null && entry.isEligible()) {
+                        CampaignMatchDTO dto = toDTO(entry);
+                        dto.setDistanceKm(Math.round(hit.distanceKm() * 10) / 10.0);
+                        matches.accept(dto);
+                    }
+                })
+                .limit(matchLimit)
+                .toList();
+    }
+
+    /**
+     * Takes a campaign whose fund no longer covers its bid out of both indexes. The spend
+     * ledger switches it OFF in the database with its next flush.
+     *
+     * @param campaignId     exhausted campaign
+     * @param remainingCents remaining fund in cents
+     */
+    public void applyExhausted(long campaignId, long remainingCents) {
+        matchingIndex.exhaust(campaignId, remainingCents);
+        geoIndex.remove(campaignId);
+    }
+
+    /**
+     * Returns the town with the identifier.
+     *
+     * @throws IllegalArgumentException if there is no such town
+     */
+    private Town findTown(Long townId) {
+        Town town = referenceDataSnapshot.findTown(townId);
+        if (town == null) {
+            throw new IllegalArgumentException("Town not found");
+        }
+        return town;
+    }
+
+    /**
+     * Indexes the saved state of a campaign, with the location of its town, in the matching
+     * and geo indexes
+     */
+    private void index(CampaignDTO campaign) {
+        Town town = campaign.getTownId() == null ? null : referenceDataSnapshot.findTown(campaign.getTownId());
+        matchingIndex.upsert(campaign, town == null ? null : town.getLatitude(), town == null ? null : town.getLongitude());
+        // The matching index ignores stale states, index whatever it holds now
+        CampaignMatchingIndex.Entry entry = matchingIndex.get(campaign.getId());
+        if (entry == null) {
+            return;
+        }
+        geoIndex.update(entry, entry.hasTownLocation() ? entry.townLatitude() : null,
+                entry.hasTownLocation() ? entry.townLongitude() : null);
+    }
+
+    private static int resolveLimit(Integer limit) {
+        int matchLimit = limit == null ? DEFAULT_MATCH_LIMIT : Math.min(limit, MAX_MATCH_LIMIT);
+        if (matchLimit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return matchLimit;
+    }
+
+    private static void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range");
+        }
+    }
+
+    private static CampaignMatchDTO toDTO(CampaignMatchingIndex.Entry entry) {
+        return new CampaignMatchDTO(entry.id(), entry.name(), entry.bidAmount(), entry.campaignFund(),
+                entry.townId(), entry.townName(), entry.radius());
+    }
+}
@@ -1,6 +1,8 @@
 package com.futurum.campaign_manager.service;
 
+import com.futurum.campaign_manager.dto.CampaignBulkResultDTO;
 import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignPageDTO;
 import com.futurum.campaign_manager.model.Keyword;
 import com.futurum.campaign_manager.model.Town;
 import com.futurum.campaign_manager.repository.CampaignRepository;
@@ -8,11 +10,25 @@ import com.futurum.campaign_manager.repository.KeywordRepository;
 import com.futurum.campaign_manager.repository.TownRepository;
 
 import com.futurum.campaign_manager.model.Campaign;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -26,41 +42,84 @@ import java.math.BigDecimal;
  * - Fund management and validation through integration with AccountService
  * - Keyword and location (town) association management
  * - Data conversion between Campaign entities and CampaignDTO objects
+ * - Publishing {@link CampaignsSavedEvent} and {@link CampaignDeletedEvent} for every change
+ *
+ * Spend accepted by {@link CampaignSpendLedger} but not yet flushed is settled into a campaign
+ * as soon as its row is locked, so fund changes and refunds start from the actual remaining fund.
+ * Spend flushes are held off before the row is locked, so none of it can be in flight meanwhile.
  */
 @Service
 @Transactional
+@Timed(ServiceMetrics.SERVICE_TIMER)
 public class CampaignService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_BULK_SIZE = 10_000;
+
     private final CampaignRepository campaignRepository;
     private final KeywordRepository keywordRepository;
     private final TownRepository townRepository;
     private final AccountService accountService;
+    private final ReferenceDataSnapshot referenceDataSnapshot;
+    private final CampaignSpendLedger spendLedger;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public CampaignService(CampaignRepository campaignRepository,
                            KeywordRepository keywordRepository,
                            TownRepository townRepository,
-                           AccountService accountService) {
+                           AccountService accountService,
+                           ReferenceDataSnapshot referenceDataSnapshot,
+                           CampaignSpendLedger spendLedger,
+                           Validator validator,
+                           ApplicationEventPublisher eventPublisher) {
         this.campaignRepository = campaignRepository;
         this.keywordRepository = keywordRepository;
         this.townRepository = townRepository;
         this.accountService = accountService;
+        this.referenceDataSnapshot = referenceDataSnapshot;
+        this.spendLedger = spendLedger;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<CampaignDTO> getAllCampaigns() {
-        return campaignRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * Returns one page of campaigns in identifier order using keyset pagination.
+     *
+     * @param cursor opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param size page size, capped at {@value #MAX_PAGE_SIZE}; {@code null} uses {@value #DEFAULT_PAGE_SIZE}
+     */
+    @Transactional(readOnly = true)
+    public CampaignPageDTO getCampaignPage(String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        long afterId = cursor == null || cursor.isBlank() ? 0L : decodeCursor(cursor);
+
+        // Fetch one extra row to learn whether another page exists
+        List<Campaign> campaigns = campaignRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        boolean hasMore = campaigns.size() > pageSize;
+        List<Campaign> page = hasMore ? campaigns.subList(0, pageSize) : campaigns;
+        if (!page.isEmpty()) {
+            campaignRepository.fetchKeywords(page.stream().map(Campaign::getId).toList());
+        }
+
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1).getId()) : null;
+        return new CampaignPageDTO(page.stream().map(this::convertToDTO).collect(Collectors.toList()), nextCursor);
     }
 
+    @Transactional(readOnly = true)
     public Optional<CampaignDTO> getCampaignById(Long id) {
-        return campaignRepository.findById(id)
+        return campaignRepository.findWithDetailsById(id)
                 .map(this::convertToDTO);
     }
 
     public CampaignDTO createCampaign(CampaignDTO campaignDTO) {
-        // Check if account has sufficient funds before creating campaign
-        if (!accountService.hasEnoughFunds("Emerald Account", campaignDTO.getCampaignFund())) {
+        // Reserve campaign funds up front; released again if the creation fails
+        if (!accountService.reserveFunds("Emerald Account", campaignDTO.getCampaignFund())) {
             throw new IllegalArgumentException("Insufficient funds in Emerald Account");
         }
 
@@ -72,32 +131,29 @@ public class CampaignService {
 
         // Set campaign location if specified
         if (campaignDTO.getTownId() != null) {
-            Town town = townRepository.findById(campaignDTO.getTownId())
-                    .orElseThrow(() -> new IllegalArgumentException("Town not found"));
-            campaign.setTown(town);
+            campaign.setTown(resolveTown(campaignDTO.getTownId()));
         }
 
         Campaign savedCampaign = campaignRepository.save(campaign);
-
-        // Deduct campaign funds from account after successful creation
-        accountService.deductFunds("Emerald Account", campaignDTO.getCampaignFund());
-
-        return convertToDTO(savedCampaign);
+        CampaignDTO savedDTO = convertToDTO(savedCampaign);
+        eventPublisher.publishEvent(new CampaignsSavedEvent(List.of(savedDTO)));
+        return savedDTO;
     }
 
     public CampaignDTO updateCampaign(Long id, CampaignDTO campaignDTO) {
-        Campaign existingCampaign = campaignRepository.findById(id)
+        spendLedger.holdFlushes();
+        Campaign existingCampaign = campaignRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new IllegalArgumentException("Campaign not found"));
+        settleSpend(existingCampaign);
 
         // Calculate fund difference to handle account balance adjustments
         var fundDifference = campaignDTO.getCampaignFund().subtract(existingCampaign.getCampaignFund());
 
-        // Handle fund increase - check availability and deduct
+        // Handle fund increase - reserve the difference atomically
         if (fundDifference.compareTo(java.math.BigDecimal.ZERO) > 0) {
-            if (!accountService.hasEnoughFunds("Emerald Account", fundDifference)) {
+            if (!accountService.reserveFunds("Emerald Account", fundDifference)) {
                 throw new IllegalArgumentException("Insufficient funds to increase campaign fund");
             }
-            accountService.deductFunds("Emerald Account", fundDifference);
         }
         // Handle fund decrease - return excess funds to account
         else if (fundDifference.compareTo(java.math.BigDecimal.ZERO) < 0) {
@@ -106,45 +162,277 @@ public class CampaignService {
 
         updateCampaignFields(existingCampaign, campaignDTO);
 
-        Campaign savedCampaign = campaignRepository.save(existingCampaign);
-        return convertToDTO(savedCampaign);
+        // Flush so the published state carries the new modification timestamp
+        Campaign savedCampaign = campaignRepository.saveAndFlush(existingCampaign);
+        CampaignDTO savedDTO = convertToDTO(savedCampaign);
+        eventPublisher.publishEvent(new CampaignsSavedEvent(List.of(savedDTO)));
+        return savedDTO;
+    }
+
+    /**
+     * Creates and updates many campaigns in a single transaction.
+     * <p>
+     * Items carrying an identifier update that campaign, the others create a new one. Each item
+     * is validated on its own and invalid items are reported without affecting the rest. The net
+     * fund change of all valid items is settled with the account in one debit or credit, and the
+     * rows are written with JDBC batch statements.
+     *
+     * @param campaignDTOs campaigns to save, at most {@value #MAX_BULK_SIZE}
+     * @return one result per item, in request order
+     * @throws IllegalArgumentException if the request is empty or too large,
+     *                                  or the account cannot cover the net fund increase
+     */
+    public List<CampaignBulkResultDTO> saveCampaigns(List<CampaignDTO> campaignDTOs) {
+        if (campaignDTOs == null || campaignDTOs.isEmpty()) {
+            throw new IllegalArgumentException("At least one campaign is required");
+        }
+        if (campaignDTOs.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " campaigns can be saved at once");
+        }
+
+        // Resolve all references of the request up front, one lookup per kind
+        Set<Long> keywordIds = new HashSet<>();
+        Set<Long> townIds = new HashSet<>();
+        Set<Long> campaignIds = new HashSet<>();
+        for (CampaignDTO dto : campaignDTOs) {
+            if (dto == null) {
+                continue;
+            }
+            if (dto.getKeywordIds() != null) {
+                dto.getKeywordIds().stream().filter(Objects::nonNull).forEach(keywordIds::add);
+            }
+            if (dto.getTownId() != null) {
+                townIds.add(dto.getTownId());
+            }
+            if (dto.getId() != null) {
+                campaignIds.add(dto.getId());
+            }
+        }
+        Map<Long, Keyword> keywords = resolveKeywords(keywordIds);
+        Map<Long, Town> towns = resolveTowns(townIds);
+        if (!campaignIds.isEmpty()) {
+            spendLedger.holdFlushes();
+        }
+        Map<Long, Campaign> existing = campaignIds.isEmpty() ? Map.of()
+                : campaignRepository.findAllByIdForUpdate(campaignIds).stream()
+                        .collect(Collectors.toMap(Campaign::getId, campaign -> campaign));
+        existing.values().forEach(this::settleSpend);
+
+        CampaignBulkResultDTO[] results = new CampaignBulkResultDTO[campaignDTOs.size()];
+        List<Integer> accepted = new ArrayList<>();
+        List<Campaign> campaigns = new ArrayList<>();
+        Set<Long> updatedIds = new HashSet<>();
+        BigDecimal fundChange = BigDecimal.ZERO;
+
+        for (int i = 0; i < campaignDTOs.size(); i++) {
+            CampaignDTO dto = campaignDTOs.get(i);
+            String error = validateBulkItem(dto, keywords, towns, existing, updatedIds);
+            if (error != null) {
+                results[i] = CampaignBulkResultDTO.rejected(i, error);
+                continue;
+            }
+
+            Campaign campaign;
+            if (dto.getId() != null) {
+                campaign = existing.get(dto.getId());
+                updatedIds.add(dto.getId());
+                fundChange = fundChange.add(dto.getCampaignFund().subtract(campaign.getCampaignFund()));
+                applyFields(campaign, dto);
+            } else {
+                campaign = convertToEntity(dto);
+                fundChange = fundChange.add(dto.getCampaignFund());
+            }
+            if (dto.getTownId() != null) {
+                campaign.setTown(towns.get(dto.getTownId()));
+            }
+            campaign.setKeywords(dto.getKeywordIds().stream().map(keywords::get).collect(Collectors.toSet()));
+
+            accepted.add(i);
+            campaigns.add(campaign);
+        }
+
+        // Settle the net fund change of the whole request with a single ledger operation
+        if (fundChange.signum() > 0) {
+            if (!accountService.reserveFunds("Emerald Account", fundChange)) {
+                throw new IllegalArgumentException("Insufficient funds in Emerald Account");
+            }
+        } else if (fundChange.signum() < 0) {
+            accountService.addFunds("Emerald Account", fundChange.abs());
+        }
+
+        List<Campaign> saved = campaignRepository.saveAll(campaigns);
+        campaignRepository.flush();
+
+        List<CampaignDTO> savedDTOs = new ArrayList<>(saved.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            int index = accepted.get(i);
+            CampaignDTO savedDTO = convertToDTO(saved.get(i));
+            savedDTOs.add(savedDTO);
+            results[index] = CampaignBulkResultDTO.saved(index, savedDTO);
+        }
+        if (!savedDTOs.isEmpty()) {
+            eventPublisher.publishEvent(new CampaignsSavedEvent(savedDTOs));
+        }
+        return Arrays.asList(results);
     }
 
     public void deleteCampaign(Long id) {
-        Campaign campaign = campaignRepository.findById(id)
+        spendLedger.holdFlushes();
+        Campaign campaign = campaignRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new IllegalArgumentException("Campaign not found"));
+        settleSpend(campaign);
 
         // Return campaign funds to account before deletion
         accountService.addFunds("Emerald Account", campaign.getCampaignFund());
 
         campaignRepository.delete(campaign);
+        eventPublisher.publishEvent(new CampaignDeletedEvent(id));
     }
 
     /**
-     * Retrieves or validates existing keywords by their IDs
+     * Deducts the unflushed spend of a locked campaign from its fund.
+     */
+    private void settleSpend(Campaign campaign) {
+        long spentCents = spendLedger.settle(campaign.getId());
+        if (spentCents != 0) {
+            campaign.setCampaignFund(campaign.getCampaignFund().subtract(FundLedger.fromCents(spentCents)));
+        }
+    }
+
+    static String encodeCursor(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Retrieves or validates existing keywords by their IDs.
+     * <p>
+     * Keywords are taken from the in-memory reference snapshot; ids missing from it are
+     * loaded with one batched query and added to the snapshot.
      */
     private Set<Keyword> getOrCreateKeywords(Set<Long> keywordIds) {
-        return keywordIds.stream()
-                .map(id -> keywordRepository.findById(id)
-                        .orElseThrow(() -> new IllegalArgumentException("Keyword not found: " + id)))
-                .collect(Collectors.toSet());
+        Map<Long, Keyword> keywords = resolveKeywords(keywordIds);
+        for (Long id : keywordIds) {
+            if (!keywords.containsKey(id)) {
+                throw new IllegalArgumentException("Keyword not found: " + id);
+            }
+        }
+        return new HashSet<>(keywords.values());
+    }
+
+    /**
+     * Looks keywords up in the reference snapshot and loads the missing ones with one
+     * batched query. Identifiers that do not exist are absent from the returned map.
+     */
+    private Map<Long, Keyword> resolveKeywords(Collection<Long> keywordIds) {
+        Map<Long, Keyword> keywords = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : keywordIds) {
+            Keyword keyword = referenceDataSnapshot.findKeyword(id);
+            if (keyword != null) {
+                keywords.put(id, keyword);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            List<Keyword> loaded = keywordRepository.findAllById(missingIds);
+            referenceDataSnapshot.addKeywords(loaded);
+            loaded.forEach(keyword -> keywords.put(keyword.getId(), keyword));
+        }
+        return keywords;
+    }
+
+    /**
+     * Looks towns up in the reference snapshot and loads the missing ones with one
+     * batched query. Identifiers that do not exist are absent from the returned map.
+     */
+    private Map<Long, Town> resolveTowns(Collection<Long> townIds) {
+        Map<Long, Town> towns = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : townIds) {
+            Town town = referenceDataSnapshot.findTown(id);
+            if (town != null) {
+                towns.put(id, town);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            List<Town> loaded = townRepository.findAllById(missingIds);
+            referenceDataSnapshot.addTowns(loaded);
+            loaded.forEach(town -> towns.put(town.getId(), town));
+        }
+        return towns;
+    }
+
+    /**
+     * Checks one item of a bulk request, returning the reason it cannot be saved or {@code null}
+     */
+    private String validateBulkItem(CampaignDTO dto, Map<Long, Keyword> keywords, Map<Long, Town> towns,
+                                    Map<Long, Campaign> existing, Set<Long> updatedIds) {
+        if (dto == null) {
+            return "Campaign is mandatory";
+        }
+        Set<ConstraintViolation<CampaignDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (dto.getId() != null) {
+            if (!existing.containsKey(dto.getId())) {
+                return "Campaign not found";
+            }
+            if (updatedIds.contains(dto.getId())) {
+                return "Campaign appears more than once in the request";
+            }
+        }
+        for (Long keywordId : dto.getKeywordIds()) {
+            if (keywordId == null || !keywords.containsKey(keywordId)) {
+                return "Keyword not found: " + keywordId;
+            }
+        }
+        if (dto.getTownId() != null && !towns.containsKey(dto.getTownId())) {
+            return "Town not found";
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves a town from the in-memory reference snapshot, falling back to the database
+     */
+    private Town resolveTown(Long townId) {
+        Town town = referenceDataSnapshot.findTown(townId);
+        if (town != null) {
+            return town;
+        }
+        town = townRepository.findById(townId)
+                .orElseThrow(() -> new IllegalArgumentException("Town not found"));
+        referenceDataSnapshot.addTowns(List.of(town));
+        return town;
     }
 
     /**
      * Updates campaign fields with new values from DTO
      */
     private void updateCampaignFields(Campaign campaign, CampaignDTO dto) {
-        campaign.setCampaignName(dto.getCampaignName());
-        campaign.setBidAmount(dto.getBidAmount());
-        campaign.setCampaignFund(dto.getCampaignFund());
-        campaign.setStatus(dto.getStatus());
-        campaign.setRadius(dto.getRadius());
+        applyFields(campaign, dto);
 
         // Update town association if provided
         if (dto.getTownId() != null) {
-            Town town = townRepository.findById(dto.getTownId())
-                    .orElseThrow(() -> new IllegalArgumentException("Town not found"));
-            campaign.setTown(town);
+            campaign.setTown(resolveTown(dto.getTownId()));
         }
 
         // Update keyword associations if provided
@@ -155,9 +443,10 @@ public class CampaignService {
     }
 
     /**
-     * Converts Campaign entity to CampaignDTO for data transfer
+     * Converts Campaign entity to CampaignDTO for data transfer.
+     * Package-private for the mapping benchmark.
      */
-    private CampaignDTO convertToDTO(Campaign campaign) {
+    CampaignDTO convertToDTO(Campaign campaign) {
         CampaignDTO dto = new CampaignDTO();
         dto.setId(campaign.getId());
         dto.setCampaignName(campaign.getCampaignName());
@@ -192,11 +481,18 @@ public class CampaignService {
      */
     private Campaign convertToEntity(CampaignDTO dto) {
         Campaign campaign = new Campaign();
+        applyFields(campaign, dto);
+        return campaign;
+    }
+
+    /**
+     * Copies the plain campaign attributes from DTO to entity
+     */
+    private void applyFields(Campaign campaign, CampaignDTO dto) {
         campaign.setCampaignName(dto.getCampaignName());
         campaign.setBidAmount(dto.getBidAmount());
         campaign.setCampaignFund(dto.getCampaignFund());
         campaign.setStatus(dto.getStatus());
         campaign.setRadius(dto.getRadius());
-        return campaign;
     }
 }
\ No newline at end of file
@@ -0,0 +1,345 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory spend counters that sit in front of the campaign fund column.
+ * <p>
+ * Each charged campaign has a counter of remaining cents, initialized from its indexed fund.
+ * Charges are admitted with a compare-and-set on that counter, so a campaign can never spend
+ * more than its fund, and are added to a striped {@link LongAdder} of unflushed spend. Neither
+ * step takes a lock or touches the database. A campaign whose remaining fund no longer covers
+ * its bid is marked to be switched {@link CampaignStatus#OFF}.
+ * </p>
+ *
+ * <p>
+ * {@link #flush()} writes the unflushed spend of all campaigns back with one JDBC batch in a
+ * single transaction, switching marked campaigns OFF in the same statement. It runs every
+ * {@code campaign-manager.spend.flush-interval-ms}, and early as soon as the unflushed spend of
+ * a campaign reaches {@code campaign-manager.spend.max-unflushed}, so a crash loses at most
+ * one interval of spend and never more than that amount per campaign.
+ * </p>
+ *
+ * <p>
+ * Edits settle the unflushed spend of a campaign into the locked row with {@link #settle(long)}
+ * before changing its fund; spend accepted while the edit runs is deducted from the new fund.
+ * An edit calls {@link #holdFlushes()} before it locks any row, which waits for a running flush
+ * to commit and keeps new ones out until the edit completes. No spend is therefore in flight
+ * for a locked row, and a flush never waits on a row lock held by an edit. A flush whose update
+ * finds the row gone drops the spend of that deleted campaign.
+ * </p>
+ */
+@Component
+public class CampaignSpendLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(CampaignSpendLedger.class);
+
+    static final String FLUSH_SQL = "UPDATE campaigns SET campaign_fund = campaign_fund - ?, "
+            + "status = CASE WHEN ? THEN 'OFF' ELSE status END WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxUnflushedCents;
+    private final Map<Long, CampaignSpend> campaigns = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    // Flushes hold the write side during the batch update, edits the read side until they
+    // complete; unlike a monitor it does not pin a virtual thread. Fair, so edits cannot starve flushes
+    private final ReentrantReadWriteLock settleLock = new ReentrantReadWriteLock(true);
+    private final ExecutorService flushExecutor;
+
+    @Autowired
+    public CampaignSpendLedger(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${campaign-manager.spend.max-unflushed:5.00}") BigDecimal maxUnflushed,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxUnflushedCents = FundLedger.toCents(maxUnflushed);
+        this.flushExecutor = WorkerThreads.newSingleThreadExecutor("campaign-spend-flush", virtualThreads);
+    }
+
+    /**
+     * Charges a campaign if its remaining fund covers the amount.
+     *
+     * @param campaign    indexed state of the campaign, used the first time it is charged
+     * @param amountCents amount to charge in cents (must be positive)
+     * @return the remaining fund in cents after the charge, or -1 if the charge was rejected
+     */
+    public long tryCharge(CampaignMatchingIndex.Entry campaign, long amountCents) {
+        CampaignSpend spend = campaigns.get(campaign.id());
+        if (spend == null) {
+            spend = campaigns.computeIfAbsent(campaign.id(),
+                    id -> new CampaignSpend(campaign.fundCents(), campaign.bidCents()));
+        }
+        long current;
+        do {
+            current = spend.remaining.get();
+            if (spend.closed || current < amountCents) {
+                return -1;
+            }
+        } while (!spend.remaining.compareAndSet(current, current - amountCents));
+
+        long remaining = current - amountCents;
+        spend.unflushed.add(amountCents);
+        spend.unreported.add(amountCents);
+        if (remaining < spend.bidCents) {
+            spend.closed = true;
+        }
+        if (spend.unflushed.sum() >= maxUnflushedCents) {
+            requestFlush();
+        }
+        return remaining;
+    }
+
+    /**
+     * Returns the remaining fund of a charged campaign in cents, including unflushed spend,
+     * or -1 if the campaign has not been charged since it was last saved.
+     */
+    public long getRemainingCents(long campaignId) {
+        CampaignSpend spend = campaigns.get(campaignId);
+        return spend == null ? -1 : spend.remaining.get();
+    }
+
+    /**
+     * Returns the spend accepted for the campaign but not yet written to the database.
+     */
+    public BigDecimal getUnflushedSpend(long campaignId) {
+        CampaignSpend spend = campaigns.get(campaignId);
+        return FundLedger.fromCents(spend == null ? 0 : spend.unflushed.sum());
+    }
+
+    /**
+     * Hands the spend charged since the last call to the consumer, one call per campaign.
+     * Lets {@link DeliveryEventService} add spend to the statistics on its own thread, while
+     * charging only bumps a counter. Spend of a campaign deleted before it was handed over is
+     * left out of the statistics.
+     */
+    public void drainReportableSpend(SpendConsumer consumer) {
+        campaigns.forEach((id, spend) -> {
+            long cents = spend.unreported.sum();
+            if (cents != 0) {
+                // Subtracting the sum instead of resetting keeps charges added concurrently
+                spend.unreported.add(-cents);
+                consumer.accept(id, cents);
+            }
+        });
+    }
+
+    /**
+     * Keeps flushes out until the current transaction completes. Must be called before the
+     * transaction locks campaign rows that it settles, so that no flush holds spend of those
+     * rows in flight.
+     *
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void holdFlushes() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Flushes can only be held by a transaction");
+        }
+        settleLock.readLock().lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                settleLock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Takes the unflushed spend of a campaign so the caller can apply it to the row it has
+     * locked. If the surrounding transaction does not commit, the spend is put back.
+     *
+     * @return the taken spend in cents
+     */
+    public long settle(long campaignId) {
+        CampaignSpend spend = campaigns.get(campaignId);
+        if (spend == null) {
+            return 0;
+        }
+        long cents = spend.take();
+        if (cents != 0 && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        spend.unflushed.add(cents);
+                    }
+                }
+            });
+        }
+        return cents;
+    }
+
+    /**
+     * Restarts the counters of saved campaigns from their committed fund and bid. Spend
+     * accepted since the save was settled stays pending and is deducted from the new fund.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignsSaved(CampaignsSavedEvent event) {
+        for (CampaignDTO campaign : event.campaigns()) {
+            CampaignSpend spend = campaigns.get(campaign.getId());
+            if (spend != null) {
+                spend.reset(FundLedger.toCents(campaign.getCampaignFund()), FundLedger.toCents(campaign.getBidAmount()),
+                        campaign.getStatus() != CampaignStatus.ON);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCampaignDeleted(CampaignDeletedEvent event) {
+        campaigns.remove(event.campaignId());
+    }
+
+    /**
+     * Writes the unflushed spend of all campaigns back to the database in one batch.
+     */
+    @Scheduled(fixedDelayString = "${campaign-manager.spend.flush-interval-ms:1000}")
+    public void flush() {
+        settleLock.writeLock().lock();
+        try {
+            flushPending();
+        } finally {
+            settleLock.writeLock().unlock();
+        }
+    }
+
+    private void flushPending() {
+        List<Object[]> rows = new ArrayList<>();
+        List<Long> taken = new ArrayList<>();
+        List<CampaignSpend> flushed = new ArrayList<>();
+        campaigns.forEach((id, spend) -> {
+            boolean switchOff = spend.closed && !spend.offWritten;
+            long cents = spend.takeForFlush();
+            if (cents != 0 || switchOff) {
+                flushed.add(spend);
+                taken.add(cents);
+                rows.add(new Object[]{FundLedger.fromCents(cents), switchOff, id});
+            }
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, rows));
+            for (int i = 0; i < flushed.size(); i++) {
+                if (counts[i] == 0) {
+                    // Deleted since it was charged; the delete refunded the fund it had settled
+                    Long id = (Long) rows.get(i)[2];
+                    campaigns.remove(id, flushed.get(i));
+                    log.warn("Dropped {} of spend of deleted campaign {}", rows.get(i)[0], id);
+                } else {
+                    flushed.get(i).flushed(taken.get(i), (Boolean) rows.get(i)[1]);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Put the spend back so the next flush retries it
+            for (int i = 0; i < flushed.size(); i++) {
+                flushed.get(i).restore(taken.get(i));
+            }
+            log.error("Failed to flush spend of {} campaigns", flushed.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    private void requestFlush() {
+        if (flushQueued.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushQueued.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * Receives the spend of one campaign in cents.
+     */
+    public interface SpendConsumer {
+        void accept(long campaignId, long cents);
+    }
+
+    private static final class CampaignSpend {
+        private final AtomicLong remaining;
+        private final LongAdder unflushed = new LongAdder();
+        // Spend not yet added to the delivery statistics
+        private final LongAdder unreported = new LongAdder();
+        // Spend taken by a flush that has not committed yet
+        private final AtomicLong inFlight = new AtomicLong();
+        private volatile long bidCents;
+        // No further charges: the fund no longer covers the bid, or the campaign is not ON
+        private volatile boolean closed;
+        private volatile boolean offWritten;
+
+        private CampaignSpend(long remainingCents, long bidCents) {
+            this.remaining = new AtomicLong(remainingCents);
+            this.bidCents = bidCents;
+            this.closed = remainingCents < bidCents;
+        }
+
+        /**
+         * Removes the current unflushed spend. Subtracting the sum instead of resetting keeps
+         * charges added concurrently.
+         */
+        private synchronized long take() {
+            long cents = unflushed.sum();
+            unflushed.add(-cents);
+            return cents;
+        }
+
+        private synchronized long takeForFlush() {
+            long cents = take();
+            inFlight.addAndGet(cents);
+            return cents;
+        }
+
+        private void flushed(long cents, boolean switchedOff) {
+            inFlight.addAndGet(-cents);
+            if (switchedOff) {
+                offWritten = true;
+            }
+        }
+
+        private void restore(long cents) {
+            unflushed.add(cents);
+            inFlight.addAndGet(-cents);
+        }
+
+        private void reset(long fundCents, long bidCents, boolean off) {
+            this.bidCents = bidCents;
+            long remainingCents = fundCents - unflushed.sum() - inFlight.get();
+            remaining.set(remainingCents);
+            closed = off || remainingCents < bidCents;
+            // A campaign saved as OFF needs no switch, one saved as ON must be switched again
+            offWritten = off;
+        }
+    }
+}
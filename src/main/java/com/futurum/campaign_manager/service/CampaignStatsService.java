@@ -0,0 +1,97 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignStatsBucketDTO;
+import com.futurum.campaign_manager.dto.CampaignStatsDTO;
+import com.futurum.campaign_manager.model.CampaignEventRollup;
+import com.futurum.campaign_manager.model.RollupGranularity;
+import com.futurum.campaign_manager.repository.CampaignEventRollupRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Service reading the delivery statistics of campaigns from the pre-aggregated buckets
+ * written by {@link DeliveryEventService}.
+ * <p>
+ * A range is answered from the buckets of the requested granularity alone, so its cost
+ * depends on the number of buckets in the range, never on the number of events behind them.
+ * Ranges are limited to {@value #MAX_BUCKETS} buckets; longer periods should use a coarser
+ * granularity.
+ * </p>
+ */
+@Service
+@Timed(ServiceMetrics.SERVICE_TIMER)
+public class CampaignStatsService {
+
+    static final int MAX_BUCKETS = 1440;
+    static final int DEFAULT_BUCKETS = 60;
+
+    private final CampaignEventRollupRepository rollupRepository;
+    private final CampaignMatchingIndex matchingIndex;
+    private final Clock clock;
+
+    @Autowired
+    public CampaignStatsService(CampaignEventRollupRepository rollupRepository,
+                                CampaignMatchingIndex matchingIndex,
+                                Clock clock) {
+        this.rollupRepository = rollupRepository;
+        this.matchingIndex = matchingIndex;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the statistics of the buckets starting in {@code [from, to)}. The start of the
+     * range is aligned down to its bucket.
+     *
+     * @param from start of the range, or {@code null} for {@value #DEFAULT_BUCKETS} buckets before {@code to}
+     * @param to   end of the range, or {@code null} for now
+     * @throws IllegalArgumentException if the campaign does not exist, the range is empty or
+     *                                  spans more than {@value #MAX_BUCKETS} buckets
+     */
+    @Transactional(readOnly = true)
+    public CampaignStatsDTO getStats(Long campaignId, RollupGranularity granularity, Instant from, Instant to) {
+        if (matchingIndex.get(campaignId) == null) {
+            throw new IllegalArgumentException("Campaign not found");
+        }
+        long toMillis = to == null ? clock.millis() : to.toEpochMilli();
+        long fromMillis = granularity.bucketStart(from == null
+                ? toMillis - DEFAULT_BUCKETS * granularity.getMillis()
+                : from.toEpochMilli());
+        if (fromMillis >= toMillis) {
+            throw new IllegalArgumentException("Range start must be before its end");
+        }
+        if ((toMillis - fromMillis) / granularity.getMillis() > MAX_BUCKETS) {
+            throw new IllegalArgumentException("At most " + MAX_BUCKETS + " " + granularity.name().toLowerCase()
+                    + " buckets can be requested, use a coarser granularity");
+        }
+
+        List<CampaignEventRollup> rollups = rollupRepository.findRange(campaignId, granularity,
+                toDateTime(fromMillis), toDateTime(toMillis));
+        CampaignStatsDTO stats = new CampaignStatsDTO();
+        stats.setCampaignId(campaignId);
+        stats.setGranularity(granularity);
+        stats.setFrom(Instant.ofEpochMilli(fromMillis));
+        stats.setTo(Instant.ofEpochMilli(toMillis));
+        stats.setImpressions(rollups.stream().mapToLong(CampaignEventRollup::getImpressions).sum());
+        stats.setClicks(rollups.stream().mapToLong(CampaignEventRollup::getClicks).sum());
+        stats.setSpend(rollups.stream().map(CampaignEventRollup::getSpend).reduce(BigDecimal.ZERO.setScale(2), BigDecimal::add));
+        stats.setBuckets(rollups.stream()
+                .map(rollup -> new CampaignStatsBucketDTO(rollup.getBucketStart().toInstant(ZoneOffset.UTC),
+                        rollup.getImpressions(), rollup.getClicks(), rollup.getSpend()))
+                .toList());
+        return stats;
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000),
+                (int) Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+}
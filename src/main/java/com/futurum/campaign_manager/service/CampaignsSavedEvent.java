@@ -0,0 +1,17 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+
+import java.util.List;
+
+/**
+ * Published by {@link CampaignService} when campaigns have been created or updated.
+ * <p>
+ * Carries the saved state of every campaign. Listeners interested only in committed data
+ * should use {@code @TransactionalEventListener}, which delivers the event after commit.
+ * </p>
+ *
+ * @param campaigns saved campaigns, including identifiers and timestamps
+ */
+public record CampaignsSavedEvent(List<CampaignDTO> campaigns) {
+}
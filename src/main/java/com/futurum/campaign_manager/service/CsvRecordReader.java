@@ -0,0 +1,119 @@
+package com.futurum.campaign_manager.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal incremental CSV reader following RFC 4180.
+ * <p>
+ * Reads one record at a time from the underlying reader, so files of any size can be
+ * processed in constant memory. Supports quoted fields containing separators, escaped
+ * quotes ({@code ""}) and line breaks, and both LF and CRLF line endings.
+ * </p>
+ */
+class CsvRecordReader {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private int pushedBack = EOF;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return fields of the record, or {@code null} at the end of input
+     * @throws IllegalArgumentException if a quoted field is not closed before the end of input
+     */
+    List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+        if (recordLineNumber == 1 && c == '\uFEFF') {
+            c = read();
+        }
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLineNumber);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                if (c != EOF) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line on which the last record returned by {@link #readRecord()} started.
+     */
+    long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != EOF) {
+            int c = pushedBack;
+            pushedBack = EOF;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position++];
+    }
+}
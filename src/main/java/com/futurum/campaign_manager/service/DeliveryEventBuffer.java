@@ -0,0 +1,125 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.DeliveryEventDTO;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded ring buffer of delivery events between the ingestion endpoint and its consumer.
+ * <p>
+ * Events are stored in preallocated primitive arrays, so buffering allocates nothing and the
+ * request objects can be collected as soon as a request is answered. A batch of events is
+ * accepted whole or not at all: a full buffer rejects it, which is what lets the endpoint
+ * push back on producers instead of growing without limit.
+ * </p>
+ */
+final class DeliveryEventBuffer {
+
+    /**
+     * Receives drained events.
+     */
+    @FunctionalInterface
+    interface EventSink {
+        void accept(long campaignId, int typeOrdinal, long epochMillis);
+    }
+
+    private final long[] campaignIds;
+    private final byte[] types;
+    private final long[] timestamps;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private int head;
+    private int size;
+
+    DeliveryEventBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Event buffer capacity must be positive");
+        }
+        this.campaignIds = new long[capacity];
+        this.types = new byte[capacity];
+        this.timestamps = new long[capacity];
+    }
+
+    /**
+     * Appends all events, or none if they do not fit.
+     *
+     * @param defaultMillis timestamp of events that have none
+     * @return whether the events were accepted
+     */
+    boolean offerAll(List<DeliveryEventDTO> events, long defaultMillis) {
+        lock.lock();
+        try {
+            if (campaignIds.length - size < events.size()) {
+                return false;
+            }
+            int tail = (head + size) % campaignIds.length;
+            for (int i = 0; i < events.size(); i++) {
+                DeliveryEventDTO event = events.get(i);
+                campaignIds[tail] = event.getCampaignId();
+                types[tail] = (byte) event.getType().ordinal();
+                timestamps[tail] = event.getTimestamp() == null ? defaultMillis : event.getTimestamp().toEpochMilli();
+                if (++tail == campaignIds.length) {
+                    tail = 0;
+                }
+            }
+            size += events.size();
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands up to {@code max} of the oldest events to the sink and removes them.
+     *
+     * @return the number of events drained
+     */
+    int drainTo(EventSink sink, int max) {
+        lock.lock();
+        try {
+            int count = Math.min(max, size);
+            for (int i = 0; i < count; i++) {
+                sink.accept(campaignIds[head], types[head], timestamps[head]);
+                if (++head == campaignIds.length) {
+                    head = 0;
+                }
+            }
+            size -= count;
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the buffer holds events or the timeout passes.
+     */
+    void awaitEvents(long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (size == 0 && nanos > 0) {
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int capacity() {
+        return campaignIds.length;
+    }
+}
@@ -0,0 +1,287 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.DeliveryEventDTO;
+import com.futurum.campaign_manager.model.RollupGranularity;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service ingesting impression and click events of campaigns, and the spend of auction wins.
+ * <p>
+ * Accepted events go into a bounded {@link DeliveryEventBuffer} and the request returns right
+ * away. A single consumer thread, virtual when virtual threads are enabled, drains the buffer in
+ * batches and counts the events per campaign and minute in memory. Spend stays in the primitive
+ * counters of {@link CampaignSpendLedger}, so an auction win allocates nothing for the
+ * statistics; the consumer takes it when it writes and books it to the minute of the write.
+ * The counts are added to the minute, hour and day buckets of the {@code campaign_event_rollups}
+ * table with one JDBC batch of MERGE statements once
+ * {@code campaign-manager.events.batch-size} events are pending or
+ * {@code campaign-manager.events.flush-interval-ms} has passed. A burst of events for a few
+ * campaigns therefore costs a handful of row updates instead of one insert per event, and
+ * reading a range never touches individual events.
+ * </p>
+ *
+ * <p>
+ * When the buffer has no room for a request, it is rejected with {@link EventBufferFullException}
+ * rather than queued, so producers slow down instead of the service running out of memory.
+ * A failed write keeps its counts. The consumer then pauses before retrying, starting at
+ * {@code campaign-manager.events.retry-backoff-ms} and doubling with every failure in a row up to
+ * {@code campaign-manager.events.max-retry-backoff-ms}, so an unavailable database is not
+ * hammered in a tight loop.
+ * </p>
+ */
+@Service
+public class DeliveryEventService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeliveryEventService.class);
+
+    static final String MERGE_SQL = "MERGE INTO campaign_event_rollups r "
+            + "USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(8)), CAST(? AS TIMESTAMP), "
+            + "CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS DECIMAL(14, 2)))) "
+            + "AS s(campaign_id, granularity, bucket_start, impressions, clicks, spend) "
+            + "ON r.campaign_id = s.campaign_id AND r.granularity = s.granularity AND r.bucket_start = s.bucket_start "
+            + "WHEN MATCHED THEN UPDATE SET impressions = r.impressions + s.impressions, "
+            + "clicks = r.clicks + s.clicks, spend = r.spend + s.spend "
+            + "WHEN NOT MATCHED THEN INSERT (campaign_id, granularity, bucket_start, impressions, clicks, spend) "
+            + "VALUES (s.campaign_id, s.granularity, s.bucket_start, s.impressions, s.clicks, s.spend)";
+
+    private static final long MILLIS_PER_MINUTE = 60_000;
+
+    private final CampaignMatchingIndex matchingIndex;
+    private final CampaignSpendLedger spendLedger;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final DeliveryEventBuffer buffer;
+    private final int maxRequestEvents;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+    private final ExecutorService consumer;
+
+    // Held while rows are written; unlike a monitor it does not pin a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+    // Guarded by lock
+    private final Map<MinuteKey, long[]> pending = new HashMap<>();
+    private int pendingEvents;
+    private long lastWriteMillis;
+    // Pause before the next write, zero while writes succeed
+    private long retryDelayMillis;
+
+    private record MinuteKey(long campaignId, long minute) {
+    }
+
+    private record BucketKey(long campaignId, RollupGranularity granularity, long startMillis) {
+    }
+
+    @Autowired
+    public DeliveryEventService(CampaignMatchingIndex matchingIndex,
+                                CampaignSpendLedger spendLedger,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                Clock clock,
+                                @Value("${campaign-manager.events.buffer-capacity:65536}") int bufferCapacity,
+                                @Value("${campaign-manager.events.max-request-events:10000}") int maxRequestEvents,
+                                @Value("${campaign-manager.events.batch-size:10000}") int batchSize,
+                                @Value("${campaign-manager.events.flush-interval-ms:500}") long flushIntervalMillis,
+                                @Value("${campaign-manager.events.retry-backoff-ms:100}") long retryBackoffMillis,
+                                @Value("${campaign-manager.events.max-retry-backoff-ms:30000}") long maxRetryBackoffMillis,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.matchingIndex = matchingIndex;
+        this.spendLedger = spendLedger;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.buffer = new DeliveryEventBuffer(bufferCapacity);
+        // A larger request could never fit into the buffer
+        this.maxRequestEvents = Math.max(1, Math.min(maxRequestEvents, bufferCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+        this.retryBackoffMillis = Math.max(1, retryBackoffMillis);
+        this.maxRetryBackoffMillis = Math.max(this.retryBackoffMillis, maxRetryBackoffMillis);
+        this.lastWriteMillis = clock.millis();
+        this.consumer = WorkerThreads.newSingleThreadExecutor("delivery-event-consumer", virtualThreads);
+    }
+
+    /**
+     * Accepts events for asynchronous counting. Either all events of the request are
+     * accepted or none.
+     *
+     * @return the number of accepted events
+     * @throws IllegalArgumentException if the request is empty or too large, or an event is
+     *                                  incomplete or refers to an unknown campaign
+     * @throws EventBufferFullException if the buffer has no room for the events
+     */
+    @Timed(ServiceMetrics.SERVICE_TIMER)
+    public int ingest(List<DeliveryEventDTO> events) {
+        if (events == null || events.isEmpty()) {
+            throw new IllegalArgumentException("At least one event is required");
+        }
+        if (events.size() > maxRequestEvents) {
+            throw new IllegalArgumentException("At most " + maxRequestEvents + " events are allowed per request");
+        }
+        for (DeliveryEventDTO event : events) {
+            validate(event);
+        }
+        if (!buffer.offerAll(events, clock.millis())) {
+            throw new EventBufferFullException("Event buffer is full, retry later");
+        }
+        return events.size();
+    }
+
+    /**
+     * Returns the number of accepted events that have not been counted yet.
+     */
+    public int getBufferedEvents() {
+        return buffer.size();
+    }
+
+    /**
+     * Counts all buffered events and writes every pending count.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            while (buffer.size() > 0) {
+                drain();
+            }
+            write();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startConsumer() {
+        consumer.execute(this::consume);
+        log.info("Delivery event consumer started with a buffer of {} events", buffer.capacity());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        consumer.shutdownNow();
+        consumer.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    private void consume() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                buffer.awaitEvents(flushIntervalMillis);
+                long retryDelay = consumeBatch();
+                if (retryDelay > 0) {
+                    // The events stay buffered, so waiting for them would return right away
+                    TimeUnit.MILLISECONDS.sleep(retryDelay);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Counts buffered events and writes them once a batch is complete or the flush interval
+     * has passed.
+     *
+     * @return how long to pause before the next batch, non-zero after a failed write
+     */
+    long consumeBatch() {
+        lock.lock();
+        try {
+            while (pendingEvents < batchSize && drain() > 0) {
+                // Keep counting until a batch is complete or the buffer is empty
+            }
+            if (pendingEvents >= batchSize || clock.millis() - lastWriteMillis >= flushIntervalMillis) {
+                write();
+            }
+            return retryDelayMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int drain() {
+        int drained = buffer.drainTo(this::count, batchSize);
+        pendingEvents += drained;
+        return drained;
+    }
+
+    private void count(long campaignId, int typeOrdinal, long epochMillis) {
+        MinuteKey key = new MinuteKey(campaignId, Math.floorDiv(epochMillis, MILLIS_PER_MINUTE));
+        pending.computeIfAbsent(key, k -> new long[3])[typeOrdinal]++;
+    }
+
+    private void write() {
+        lastWriteMillis = clock.millis();
+        long minute = Math.floorDiv(lastWriteMillis, MILLIS_PER_MINUTE);
+        // Held with the counts from here on, so a failed write retries it as well
+        spendLedger.drainReportableSpend((campaignId, cents) ->
+                pending.computeIfAbsent(new MinuteKey(campaignId, minute), k -> new long[3])[2] += cents);
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Minutes of the same hour and day add up before they reach the database
+        Map<BucketKey, long[]> buckets = new HashMap<>();
+        pending.forEach((key, counts) -> addToBuckets(buckets, key, counts[0], counts[1], counts[2]));
+        List<Object[]> rows = new ArrayList<>(buckets.size());
+        buckets.forEach((key, values) -> rows.add(new Object[]{key.campaignId(), key.granularity().name(),
+                LocalDateTime.ofEpochSecond(key.startMillis() / 1000, 0, ZoneOffset.UTC),
+                values[0], values[1], FundLedger.fromCents(values[2])}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MERGE_SQL, rows));
+            pending.clear();
+            pendingEvents = 0;
+            retryDelayMillis = 0;
+        } catch (RuntimeException e) {
+            // Keep the counts so the next batch retries them
+            retryDelayMillis = retryDelayMillis == 0 ? retryBackoffMillis
+                    : Math.min(retryDelayMillis * 2, maxRetryBackoffMillis);
+            log.error("Failed to write {} event rollups, retrying in {} ms", rows.size(), retryDelayMillis, e);
+        }
+    }
+
+    private static void addToBuckets(Map<BucketKey, long[]> buckets, MinuteKey key,
+                                     long impressions, long clicks, long spendCents) {
+        long minuteMillis = key.minute() * MILLIS_PER_MINUTE;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            long[] values = buckets.computeIfAbsent(
+                    new BucketKey(key.campaignId(), granularity, granularity.bucketStart(minuteMillis)), k -> new long[3]);
+            values[0] += impressions;
+            values[1] += clicks;
+            values[2] += spendCents;
+        }
+    }
+
+    private void validate(DeliveryEventDTO event) {
+        if (event == null || event.getType() == null) {
+            throw new IllegalArgumentException("Event type is required");
+        }
+        if (event.getCampaignId() == null) {
+            throw new IllegalArgumentException("Campaign id is required");
+        }
+        if (matchingIndex.get(event.getCampaignId()) == null) {
+            throw new IllegalArgumentException("Campaign not found: " + event.getCampaignId());
+        }
+    }
+}
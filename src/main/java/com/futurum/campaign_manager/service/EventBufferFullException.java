@@ -0,0 +1,12 @@
+package com.futurum.campaign_manager.service;
+
+/**
+ * Thrown when delivery events are offered faster than they can be written and the ingestion
+ * buffer has no room for them. Callers should retry later.
+ */
+public class EventBufferFullException extends RuntimeException {
+
+    public EventBufferFullException(String message) {
+        super(message);
+    }
+}
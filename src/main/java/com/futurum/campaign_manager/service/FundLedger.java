@@ -0,0 +1,279 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.Account;
+import com.futurum.campaign_manager.repository.AccountRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory ledger that sits in front of the {@link Account} table.
+ * <p>
+ * Each account is represented by an atomic counter of available cents, loaded once from
+ * the database. Debits are admitted or rejected with a compare-and-set on that counter,
+ * so fund checks never touch the database and concurrent writers do not serialize on the
+ * account row.
+ * </p>
+ *
+ * <p>
+ * When called inside a transaction, a change is held back from the committed balance until
+ * the surrounding transaction commits, and reversed if it rolls back. Committed changes move
+ * the committed balance, which is what the account balance shows, and accumulate in a pending
+ * delta which is written back in batches by {@link #flush()}. The committed balance is therefore
+ * always the database balance plus the pending delta; {@link #reconcile()} checks this every
+ * {@code campaign-manager.ledger.reconcile-interval-ms} and adopts the database balance when it
+ * differs, for instance after the account was changed outside the application.
+ * </p>
+ */
+@Component
+public class FundLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(FundLedger.class);
+
+    private final AccountRepository accountRepository;
+    private final Map<String, AccountLedger> ledgers = new ConcurrentHashMap<>();
+    // Keeps reconciliation from reading the database between a flush taking the delta and writing it
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Autowired
+    public FundLedger(AccountRepository accountRepository) {
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * Checks the in-memory balance of an account without reserving anything.
+     *
+     * @param accountName the name of the account to check
+     * @param amount the amount to verify against the available balance
+     */
+    public boolean hasEnoughFunds(String accountName, BigDecimal amount) {
+        return ledger(accountName).available.get() >= toCents(amount);
+    }
+
+    /**
+     * Atomically debits the account if the available balance covers the amount.
+     *
+     * @param accountName the name of the account to debit
+     * @param amount the amount to debit (must be positive)
+     * @return {@code true} if the debit was admitted, {@code false} if funds were insufficient
+     */
+    public boolean tryDebit(String accountName, BigDecimal amount) {
+        long cents = toCents(amount);
+        AccountLedger ledger = ledger(accountName);
+        long current;
+        do {
+            current = ledger.available.get();
+            if (current < cents) {
+                return false;
+            }
+        } while (!ledger.available.compareAndSet(current, current - cents));
+
+        commitWithTransaction(ledger, -cents);
+        return true;
+    }
+
+    /**
+     * Credits the account unconditionally.
+     *
+     * @param accountName the name of the account to credit
+     * @param amount the amount to credit (must be positive)
+     */
+    public void credit(String accountName, BigDecimal amount) {
+        long cents = toCents(amount);
+        AccountLedger ledger = ledger(accountName);
+        ledger.available.addAndGet(cents);
+        commitWithTransaction(ledger, cents);
+    }
+
+    /**
+     * Returns the balance available for debits, including changes not yet written to the database.
+     *
+     * @param accountName the name of the account
+     */
+    public BigDecimal getAvailableBalance(String accountName) {
+        return fromCents(ledger(accountName).available.get());
+    }
+
+    /**
+     * Returns the balance after all committed changes, including those not yet written to the
+     * database. Only the first call for an account reads the database.
+     *
+     * @param accountName the name of the account
+     */
+    public BigDecimal getCommittedBalance(String accountName) {
+        return fromCents(ledger(accountName).committed.get());
+    }
+
+    /**
+     * Returns the balance change that has been committed but not yet written to the database.
+     *
+     * @param accountName the name of the account
+     */
+    public BigDecimal getPendingDelta(String accountName) {
+        AccountLedger ledger = ledgers.get(accountName);
+        return ledger == null ? BigDecimal.ZERO : fromCents(ledger.pending.get());
+    }
+
+    /**
+     * Writes accumulated balance changes of all accounts back to the database,
+     * one relative UPDATE per account.
+     */
+    @Scheduled(fixedDelayString = "${campaign-manager.ledger.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            ledgers.values().forEach(this::flush);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Compares the committed balance of every account with the database balance plus the
+     * pending delta, and adopts the database balance where they differ.
+     */
+    @Scheduled(fixedDelayString = "${campaign-manager.ledger.reconcile-interval-ms:60000}",
+            initialDelayString = "${campaign-manager.ledger.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        flushLock.lock();
+        try {
+            ledgers.values().forEach(this::reconcile);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(AccountLedger ledger) {
+        long delta = ledger.pending.getAndSet(0);
+        if (delta == 0) {
+            return;
+        }
+        try {
+            int updated = accountRepository.applyBalanceDelta(
+                    ledger.accountName, fromCents(delta), LocalDateTime.now());
+            if (updated == 0) {
+                ledger.pending.addAndGet(delta);
+                log.warn("Balance change of {} for account {} was rejected by the database, keeping it pending",
+                        fromCents(delta), ledger.accountName);
+            }
+        } catch (RuntimeException e) {
+            // Put the delta back so the next flush retries it
+            ledger.pending.addAndGet(delta);
+            log.error("Failed to flush balance of account {}", ledger.accountName, e);
+        }
+    }
+
+    private void reconcile(AccountLedger ledger) {
+        long finished = ledger.commitsFinished.get();
+        long committed = ledger.committed.get();
+        long pending = ledger.pending.get();
+        if (ledger.commitsStarted.get() != finished) {
+            // A change was committed while reading, the next run checks again
+            return;
+        }
+        Optional<Account> account;
+        try {
+            account = accountRepository.findByAccountName(ledger.accountName);
+        } catch (RuntimeException e) {
+            log.error("Failed to reconcile balance of account {}", ledger.accountName, e);
+            return;
+        }
+        if (account.isEmpty()) {
+            log.warn("Account {} no longer exists in the database", ledger.accountName);
+            return;
+        }
+        long drift = toCents(account.get().getBalance()) + pending - committed;
+        if (drift != 0) {
+            ledger.committed.addAndGet(drift);
+            ledger.available.addAndGet(drift);
+            log.warn("Balance of account {} was {} in memory but {} in the database, adopting the database balance",
+                    ledger.accountName, fromCents(committed), fromCents(committed + drift));
+        }
+    }
+
+    private AccountLedger ledger(String accountName) {
+        AccountLedger ledger = ledgers.get(accountName);
+        if (ledger != null) {
+            return ledger;
+        }
+        // Loaded outside computeIfAbsent, which would hold a bin lock across the query;
+        // a ledger loaded concurrently wins and this one is dropped
+        Account account = accountRepository.findByAccountName(accountName)
+                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountName));
+        AccountLedger loaded = new AccountLedger(accountName, toCents(account.getBalance()));
+        AccountLedger existing = ledgers.putIfAbsent(accountName, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * Commits a change of {@code cents}, already applied to the available balance, once the
+     * current transaction commits, or reverses it if the transaction does not commit. Outside
+     * a transaction the change is committed right away.
+     */
+    private void commitWithTransaction(AccountLedger ledger, long cents) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ledger.commit(cents);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    ledger.commit(cents);
+                } else {
+                    ledger.available.addAndGet(-cents);
+                }
+            }
+        });
+    }
+
+    static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static final class AccountLedger {
+        private final String accountName;
+        private final AtomicLong available;
+        private final AtomicLong committed;
+        private final AtomicLong pending = new AtomicLong();
+        // Commits begun and completed; equal counts around a read mean no commit overlapped it
+        private final AtomicLong commitsStarted = new AtomicLong();
+        private final AtomicLong commitsFinished = new AtomicLong();
+
+        private AccountLedger(String accountName, long balanceCents) {
+            this.accountName = accountName;
+            this.available = new AtomicLong(balanceCents);
+            this.committed = new AtomicLong(balanceCents);
+        }
+
+        private void commit(long cents) {
+            commitsStarted.incrementAndGet();
+            committed.addAndGet(cents);
+            pending.addAndGet(cents);
+            commitsFinished.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.Keyword;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory n-gram index over {@link Keyword#getKeywordText()} used by the keyword typeahead.
+ * <p>
+ * Keywords are kept in an immutable snapshot sorted by keyword text. For every bigram and
+ * trigram of the lower-cased text the snapshot holds an ascending list of positions in that
+ * sorted array, so walking the shortest posting list of a query yields matches already in
+ * sorted order and the search stops as soon as {@code limit} matches have been verified.
+ * </p>
+ *
+ * <p>
+ * Keywords inserted after the snapshot was built go to a small copy-on-write delta that is
+ * scanned linearly and merged into results; once it grows past {@value #DELTA_LIMIT} entries
+ * the snapshot is rebuilt. Updated and deleted keywords rebuild the snapshot right away,
+ * which is fine for how rarely they change. Readers never block: they work on whatever snapshot and delta
+ * were current when the search started.
+ * </p>
+ */
+@Component
+public class KeywordIndex {
+
+    private static final int DELTA_LIMIT = 1024;
+    private static final Comparator<Keyword> BY_TEXT = Comparator.comparing(Keyword::getKeywordText);
+
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+    private volatile Keyword[] delta = new Keyword[0];
+    private volatile boolean ready;
+
+    /**
+     * Returns whether the index has been built and can serve searches.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Replaces the index content with the given keywords.
+     * <p>
+     * Keywords added while the source collection was being loaded are kept.
+     *
+     * @param keywords complete keyword vocabulary
+     */
+    public synchronized void rebuild(Collection<Keyword> keywords) {
+        List<Keyword> entries = new ArrayList<>(keywords.size() + delta.length);
+        Set<Long> ids = new HashSet<>();
+        for (Keyword keyword : keywords) {
+            if (ids.add(keyword.getId())) {
+                entries.add(copyOf(keyword));
+            }
+        }
+        for (Keyword keyword : delta) {
+            if (ids.add(keyword.getId())) {
+                entries.add(keyword);
+            }
+        }
+        snapshot = Snapshot.build(entries);
+        delta = new Keyword[0];
+        ready = true;
+    }
+
+    /**
+     * Adds a newly inserted keyword to the index.
+     *
+     * @param keyword persisted keyword with its identifier assigned
+     */
+    public synchronized void add(Keyword keyword) {
+        Keyword[] current = delta;
+        Keyword[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = copyOf(keyword);
+        delta = updated;
+        if (updated.length > DELTA_LIMIT) {
+            List<Keyword> entries = new ArrayList<>(Arrays.asList(snapshot.keywords));
+            entries.addAll(Arrays.asList(updated));
+            snapshot = Snapshot.build(entries);
+            delta = new Keyword[0];
+        }
+    }
+
+    /**
+     * Replaces an updated keyword, or adds it if it is not indexed.
+     *
+     * @param keyword persisted keyword carrying its new text
+     */
+    public synchronized void replace(Keyword keyword) {
+        rebuildWithout(keyword.getId(), copyOf(keyword));
+    }
+
+    /**
+     * Removes a deleted keyword from the index.
+     *
+     * @param id identifier of the deleted keyword
+     */
+    public synchronized void remove(Long id) {
+        rebuildWithout(id, null);
+    }
+
+    private void rebuildWithout(Long id, Keyword replacement) {
+        List<Keyword> entries = new ArrayList<>(snapshot.keywords.length + delta.length + 1);
+        for (Keyword keyword : snapshot.keywords) {
+            if (!keyword.getId().equals(id)) {
+                entries.add(keyword);
+            }
+        }
+        for (Keyword keyword : delta) {
+            if (!keyword.getId().equals(id)) {
+                entries.add(keyword);
+            }
+        }
+        if (replacement != null) {
+            entries.add(replacement);
+        }
+        snapshot = Snapshot.build(entries);
+        delta = new Keyword[0];
+    }
+
+    /**
+     * Finds keywords whose text contains the query, ignoring case.
+     *
+     * @param query non-empty search text
+     * @param limit maximum number of results
+     * @return matching keywords sorted by keyword text
+     */
+    public List<Keyword> search(String query, int limit) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        Snapshot current = snapshot;
+        Keyword[] pending = delta;
+
+        List<Keyword> result = current.search(needle, limit);
+        if (pending.length == 0) {
+            return result;
+        }
+        for (Keyword keyword : pending) {
+            if (keyword.getKeywordText().toLowerCase(Locale.ROOT).contains(needle)) {
+                result.add(keyword);
+            }
+        }
+        result.sort(BY_TEXT);
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * Returns the number of indexed keywords.
+     */
+    public int size() {
+        return snapshot.keywords.length + delta.length;
+    }
+
+    private static Keyword copyOf(Keyword keyword) {
+        return new Keyword(keyword.getId(), keyword.getKeywordText());
+    }
+
+    private static final class Snapshot {
+        private static final int[] NO_POSTINGS = new int[0];
+
+        private final Keyword[] keywords;
+        private final String[] lowerTexts;
+        private final Map<String, int[]> postings;
+
+        private Snapshot(Keyword[] keywords, String[] lowerTexts, Map<String, int[]> postings) {
+            this.keywords = keywords;
+            this.lowerTexts = lowerTexts;
+            this.postings = postings;
+        }
+
+        static Snapshot build(List<Keyword> entries) {
+            Keyword[] keywords = entries.toArray(new Keyword[0]);
+            Arrays.sort(keywords, BY_TEXT);
+            String[] lowerTexts = new String[keywords.length];
+
+            Map<String, IntList> lists = new HashMap<>();
+            for (int i = 0; i < keywords.length; i++) {
+                String text = keywords[i].getKeywordText().toLowerCase(Locale.ROOT);
+                lowerTexts[i] = text;
+                for (int n = 2; n <= 3; n++) {
+                    for (int start = 0; start + n <= text.length(); start++) {
+                        IntList list = lists.computeIfAbsent(text.substring(start, start + n), k -> new IntList());
+                        // Positions are visited in ascending order; skip repeats within one keyword
+                        if (list.size == 0 || list.values[list.size - 1] != i) {
+                            list.add(i);
+                        }
+                    }
+                }
+            }
+
+            Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+            lists.forEach((gram, list) -> postings.put(gram, Arrays.copyOf(list.values, list.size)));
+            return new Snapshot(keywords, lowerTexts, postings);
+        }
+
+        List<Keyword> search(String needle, int limit) {
+            List<Keyword> result = new ArrayList<>(Math.min(limit, 16));
+            if (needle.length() < 2) {
+                // Single characters match densely, a sorted scan fills the page quickly
+                for (int i = 0; i < lowerTexts.length && result.size() < limit; i++) {
+                    if (lowerTexts[i].contains(needle)) {
+                        result.add(keywords[i]);
+                    }
+                }
+                return result;
+            }
+
+            int[] candidates = shortestPostings(needle);
+            for (int i = 0; i < candidates.length && result.size() < limit; i++) {
+                int position = candidates[i];
+                if (lowerTexts[position].contains(needle)) {
+                    result.add(keywords[position]);
+                }
+            }
+            return result;
+        }
+
+        private int[] shortestPostings(String needle) {
+            int n = Math.min(needle.length(), 3);
+            int[] shortest = null;
+            for (int start = 0; start + n <= needle.length(); start++) {
+                int[] list = postings.getOrDefault(needle.substring(start, start + n), NO_POSTINGS);
+                if (shortest == null || list.length < shortest.length) {
+                    shortest = list;
+                    if (list.length == 0) {
+                        break;
+                    }
+                }
+            }
+            return shortest;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.futurum.campaign_manager.service;
 import com.futurum.campaign_manager.dto.KeywordDTO;
 import com.futurum.campaign_manager.model.Keyword;
 import com.futurum.campaign_manager.repository.KeywordRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,15 +15,31 @@ import java.util.stream.Collectors;
  * Service class for managing Keyword entities.
  * Provides business logic for keyword-related operations including
  * data retrieval and conversion to DTOs.
+ * <p>
+ * Typeahead searches are served from the in-memory {@link KeywordIndex}, which is built
+ * once the application has started. Until then searches fall back to the database.
  */
 @Service
+@Timed(ServiceMetrics.SERVICE_TIMER)
 public class KeywordService {
 
+    static final int SEARCH_LIMIT = 10;
+
     private final KeywordRepository keywordRepository;
+    private final KeywordIndex keywordIndex;
 
     @Autowired
-    public KeywordService(KeywordRepository keywordRepository) {
+    public KeywordService(KeywordRepository keywordRepository, KeywordIndex keywordIndex) {
         this.keywordRepository = keywordRepository;
+        this.keywordIndex = keywordIndex;
+    }
+
+    /**
+     * Builds the keyword search index from the full keyword table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSearchIndex() {
+        keywordIndex.rebuild(keywordRepository.findAll());
     }
 
     public List<KeywordDTO> getAllKeywords() {
@@ -34,8 +53,11 @@ public class KeywordService {
             return getAllKeywords();
         }
 
-        return keywordRepository.findTop10ByKeywordTextContainingIgnoreCaseOrderByKeywordText(query.trim())
-                .stream()
+        List<Keyword> keywords = keywordIndex.isReady()
+                ? keywordIndex.search(query.trim(), SEARCH_LIMIT)
+                : keywordRepository.findTop10ByKeywordTextContainingIgnoreCaseOrderByKeywordText(query.trim());
+
+        return keywords.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
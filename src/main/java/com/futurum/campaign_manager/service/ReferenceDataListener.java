@@ -0,0 +1,114 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * JPA entity listener that keeps the in-memory reference data ({@link KeywordIndex},
+ * {@link TownIndex}, {@link ReferenceDataSnapshot}) current when keywords or towns are inserted,
+ * updated or deleted, and bumps the {@link ReferenceDataVersion} on every change.
+ * <p>
+ * Inside a transaction the change is applied only after a successful commit, so rolled back
+ * changes never become visible. The ETag is bumped in the same step, so it never advertises
+ * content the indexes do not serve yet.
+ * </p>
+ *
+ * <p>
+ * The snapshot is injected lazily: it depends on repositories, which are created only after
+ * the entity manager factory that instantiates this listener.
+ * </p>
+ */
+@Component
+public class ReferenceDataListener {
+
+    private final KeywordIndex keywordIndex;
+    private final TownIndex townIndex;
+    private final ReferenceDataSnapshot referenceDataSnapshot;
+    private final ReferenceDataVersion referenceDataVersion;
+
+    @Autowired
+    public ReferenceDataListener(KeywordIndex keywordIndex, TownIndex townIndex,
+                                 @Lazy ReferenceDataSnapshot referenceDataSnapshot,
+                                 ReferenceDataVersion referenceDataVersion) {
+        this.keywordIndex = keywordIndex;
+        this.townIndex = townIndex;
+        this.referenceDataSnapshot = referenceDataSnapshot;
+        this.referenceDataVersion = referenceDataVersion;
+    }
+
+    @PostPersist
+    public void onInserted(Object entity) {
+        if (entity instanceof Keyword keyword) {
+            afterCommit(() -> {
+                keywordIndex.add(keyword);
+                referenceDataSnapshot.addKeywords(List.of(keyword));
+                referenceDataVersion.keywordsChanged();
+            });
+        } else if (entity instanceof Town town) {
+            afterCommit(() -> {
+                townIndex.add(town);
+                referenceDataSnapshot.addTowns(List.of(town));
+                referenceDataVersion.townsChanged();
+            });
+        }
+    }
+
+    @PostUpdate
+    public void onUpdated(Object entity) {
+        if (entity instanceof Keyword keyword) {
+            afterCommit(() -> {
+                keywordIndex.replace(keyword);
+                referenceDataSnapshot.addKeywords(List.of(keyword));
+                referenceDataVersion.keywordsChanged();
+            });
+        } else if (entity instanceof Town town) {
+            afterCommit(() -> {
+                townIndex.add(town);
+                referenceDataSnapshot.addTowns(List.of(town));
+                referenceDataVersion.townsChanged();
+            });
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Keyword keyword) {
+            Long id = keyword.getId();
+            afterCommit(() -> {
+                keywordIndex.remove(id);
+                referenceDataSnapshot.removeKeyword(id);
+                referenceDataVersion.keywordsChanged();
+            });
+        } else if (entity instanceof Town town) {
+            Long id = town.getId();
+            afterCommit(() -> {
+                townIndex.remove(id);
+                referenceDataSnapshot.removeTown(id);
+                referenceDataVersion.townsChanged();
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
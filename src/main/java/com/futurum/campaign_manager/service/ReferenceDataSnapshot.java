@@ -0,0 +1,117 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import com.futurum.campaign_manager.repository.TownRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Copy-on-write, in-memory snapshot of {@link Keyword} and {@link Town} reference data
+ * keyed by identifier.
+ * <p>
+ * Lets campaign writes validate and attach keyword and town references without a database
+ * round trip. Lookups read an immutable map and never block; every change publishes a new
+ * map. The snapshot is loaded on startup, receives inserts, updates and
+ * deletes from {@link ReferenceDataListener}
+ * and is filled on demand by callers that had to fall back to the repositories.
+ * </p>
+ *
+ * <p>
+ * Lookups return fresh detached copies carrying the identifier, which is all a campaign
+ * needs to reference them, so callers can never modify shared instances.
+ * </p>
+ */
+@Component
+public class ReferenceDataSnapshot {
+
+    private final KeywordRepository keywordRepository;
+    private final TownRepository townRepository;
+
+    private volatile Map<Long, Keyword> keywords = Map.of();
+    private volatile Map<Long, Town> towns = Map.of();
+
+    @Autowired
+    public ReferenceDataSnapshot(KeywordRepository keywordRepository, TownRepository townRepository) {
+        this.keywordRepository = keywordRepository;
+        this.townRepository = townRepository;
+    }
+
+    /**
+     * Loads all keywords and towns into the snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        addKeywords(keywordRepository.findAll());
+        addTowns(townRepository.findAll());
+    }
+
+    /**
+     * Returns a detached copy of the keyword with the given identifier,
+     * or {@code null} if it is not in the snapshot.
+     */
+    public Keyword findKeyword(Long id) {
+        Keyword keyword = keywords.get(id);
+        return keyword == null ? null : new Keyword(keyword.getId(), keyword.getKeywordText());
+    }
+
+    /**
+     * Returns a detached copy of the town with the given identifier,
+     * or {@code null} if it is not in the snapshot.
+     */
+    public Town findTown(Long id) {
+        Town town = towns.get(id);
+        return town == null ? null : copyOf(town);
+    }
+
+    public synchronized void addKeywords(Collection<Keyword> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        Map<Long, Keyword> updated = new HashMap<>(keywords);
+        for (Keyword keyword : added) {
+            updated.put(keyword.getId(), new Keyword(keyword.getId(), keyword.getKeywordText()));
+        }
+        keywords = Map.copyOf(updated);
+    }
+
+    public synchronized void addTowns(Collection<Town> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        Map<Long, Town> updated = new HashMap<>(towns);
+        for (Town town : added) {
+            updated.put(town.getId(), copyOf(town));
+        }
+        towns = Map.copyOf(updated);
+    }
+
+    public synchronized void removeKeyword(Long id) {
+        if (keywords.containsKey(id)) {
+            Map<Long, Keyword> updated = new HashMap<>(keywords);
+            updated.remove(id);
+            keywords = Map.copyOf(updated);
+        }
+    }
+
+    public synchronized void removeTown(Long id) {
+        if (towns.containsKey(id)) {
+            Map<Long, Town> updated = new HashMap<>(towns);
+            updated.remove(id);
+            towns = Map.copyOf(updated);
+        }
+    }
+
+    private static Town copyOf(Town town) {
+        Town copy = new Town(town.getTownName(), town.getPostalCode(), town.getLatitude(), town.getLongitude());
+        copy.setId(town.getId());
+        return copy;
+    }
+}
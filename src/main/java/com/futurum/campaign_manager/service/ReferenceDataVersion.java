@@ -0,0 +1,82 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change counters of the {@link Keyword} and {@link Town} reference data, used as validators
+ * for conditional GETs.
+ * <p>
+ * {@link ReferenceDataListener} bumps a counter after every committed insert, update or delete.
+ * A client whose {@code If-None-Match} still carries the current ETag has seen the latest data
+ * and is answered {@code 304 Not Modified} without reading or serializing anything. The start
+ * time is part of the ETag, so ETags handed out before a restart never match. ETags are weak:
+ * the gzip and identity encodings of a response share one.
+ * </p>
+ */
+@Component
+public class ReferenceDataVersion {
+
+    private final long startMillis = System.currentTimeMillis();
+    private final Counter keywords = new Counter(startMillis);
+    private final Counter towns = new Counter(startMillis);
+
+    private static final class Counter {
+        private final AtomicLong version = new AtomicLong();
+        private volatile long lastModifiedMillis;
+
+        private Counter(long startMillis) {
+            this.lastModifiedMillis = startMillis;
+        }
+
+        private void bump() {
+            version.incrementAndGet();
+            lastModifiedMillis = System.currentTimeMillis();
+        }
+    }
+
+    public void keywordsChanged() {
+        keywords.bump();
+    }
+
+    public void townsChanged() {
+        towns.bump();
+    }
+
+    public long getKeywordsVersion() {
+        return keywords.version.get();
+    }
+
+    /**
+     * Returns the ETag of all keyword responses, for instance {@code W/"keywords-1718000000000-3"}.
+     */
+    public String getKeywordsETag() {
+        return eTag("keywords", keywords);
+    }
+
+    public long getKeywordsLastModified() {
+        return keywords.lastModifiedMillis;
+    }
+
+    public long getTownsVersion() {
+        return towns.version.get();
+    }
+
+    /**
+     * Returns the ETag of all town responses, for instance {@code W/"towns-1718000000000-15"}.
+     */
+    public String getTownsETag() {
+        return eTag("towns", towns);
+    }
+
+    public long getTownsLastModified() {
+        return towns.lastModifiedMillis;
+    }
+
+    private String eTag(String name, Counter counter) {
+        return "W/\"" + name + "-" + startMillis + "-" + counter.version.get() + "\"";
+    }
+}
@@ -0,0 +1,66 @@
+package com.futurum.campaign_manager.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application gauges, read from memory when the registry is scraped.
+ * <p>
+ * Service classes are annotated with {@code @Timed(SERVICE_TIMER)}, so every public service
+ * method is timed under one name, tagged with its class and method. The services called by
+ * auctions annotate only their public entry points instead: a class-level annotation would
+ * also route the helpers an auction calls for every candidate through the timing proxy. Next to the request timer
+ * {@code http.server.requests} and the repository timer {@code spring.data.repository.invocations}
+ * this shows whether a slow request spent its time in the database, in the service (mapping
+ * included) or in serialization.
+ * </p>
+ */
+@Component
+public class ServiceMetrics implements MeterBinder {
+
+    /**
+     * Timer of service method invocations.
+     */
+    public static final String SERVICE_TIMER = "service.invocations";
+
+    static final String ACCOUNT = "Emerald Account";
+
+    private final FundLedger fundLedger;
+    private final CampaignMatchingIndex matchingIndex;
+
+    @Autowired
+    public ServiceMetrics(FundLedger fundLedger, CampaignMatchingIndex matchingIndex) {
+        this.fundLedger = fundLedger;
+        this.matchingIndex = matchingIndex;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("account.balance", fundLedger, ledger -> ledger.getAvailableBalance(ACCOUNT).doubleValue())
+                .description("Balance available for campaign funds")
+                .tag("account", ACCOUNT)
+                .baseUnit("currency")
+                .register(registry);
+        Gauge.builder("campaigns", matchingIndex, CampaignMatchingIndex::size)
+                .description("Campaigns by state")
+                .tag("state", "total")
+                .register(registry);
+        Gauge.builder("campaigns", matchingIndex, ServiceMetrics::eligibleCampaigns)
+                .description("Campaigns by state")
+                .tag("state", "eligible")
+                .register(registry);
+    }
+
+    private static double eligibleCampaigns(CampaignMatchingIndex index) {
+        long eligible = 0;
+        for (CampaignMatchingIndex.Entry entry : index.entries()) {
+            if (entry.isEligible()) {
+                eligible++;
+            }
+        }
+        return eligible;
+    }
+}
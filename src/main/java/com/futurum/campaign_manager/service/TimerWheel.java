@@ -0,0 +1,85 @@
+package com.futurum.campaign_manager.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel: a ring of slots, each holding the items due in the ticks that map to it.
+ * <p>
+ * Scheduling and expiring an item are O(1); advancing the wheel only visits the slots of the
+ * elapsed ticks, so the cost of a tick depends on the number of items due rather than on the
+ * number of items scheduled. Items due more than one revolution ahead wait in their slot for
+ * later rounds. Not thread safe; callers serialize access.
+ * </p>
+ *
+ * @param <T> type of the scheduled items
+ */
+final class TimerWheel<T> {
+
+    private final long tickMillis;
+    private final List<Timeout<T>>[] slots;
+    private long currentTick;
+
+    private record Timeout<T>(T item, long deadlineTick) {
+    }
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long tickMillis, int slotCount, long nowMillis) {
+        if (tickMillis <= 0 || slotCount <= 0) {
+            throw new IllegalArgumentException("Tick and slot count must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new List[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Schedules an item to expire at the first tick at or after the deadline, but never
+     * before the next tick.
+     */
+    void schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(currentTick + 1, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        slots[(int) Math.floorMod(deadlineTick, (long) slots.length)].add(new Timeout<>(item, deadlineTick));
+    }
+
+    /**
+     * Advances the wheel to the time and hands every item that became due to {@code expired},
+     * in deadline order per slot. Items may be rescheduled from the callback.
+     */
+    void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick <= currentTick) {
+            return;
+        }
+        // Past one full revolution every slot has been visited, later ticks add nothing
+        long firstTick = Math.max(currentTick + 1, targetTick - slots.length + 1);
+        List<T> due = new ArrayList<>();
+        for (long tick = firstTick; tick <= targetTick; tick++) {
+            List<Timeout<T>> slot = slots[(int) Math.floorMod(tick, (long) slots.length)];
+            slot.removeIf(timeout -> {
+                if (timeout.deadlineTick() <= targetTick) {
+                    due.add(timeout.item());
+                    return true;
+                }
+                return false;
+            });
+        }
+        currentTick = targetTick;
+        due.forEach(expired);
+    }
+
+    /**
+     * Returns the number of scheduled items.
+     */
+    int size() {
+        int size = 0;
+        for (List<Timeout<T>> slot : slots) {
+            size += slot.size();
+        }
+        return size;
+    }
+}
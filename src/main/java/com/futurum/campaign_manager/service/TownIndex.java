@@ -0,0 +1,186 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.Town;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory sorted index of town names used by the town search endpoint.
+ * <p>
+ * Town names are normalized by stripping diacritics and lower-casing, so "krakow" finds
+ * "Kraków". The index holds two sorted key arrays: full names and the start of every
+ * further word in a name ("york" for "New York"). A search is a binary search for the
+ * prefix range in each array; full-name matches are ranked before inner-word matches.
+ * </p>
+ *
+ * <p>
+ * The index is an immutable snapshot replaced on every change, which keeps searches
+ * lock-free. Town changes are rare, so rebuilding on every change is cheap enough.
+ * </p>
+ */
+@Component
+public class TownIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[\\s\\-']+");
+
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+    private volatile boolean ready;
+
+    /**
+     * Returns whether the index has been built and can serve searches.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Replaces the index content with the given towns.
+     *
+     * @param towns complete list of towns
+     */
+    public synchronized void rebuild(Collection<Town> towns) {
+        Map<Long, Town> entries = new HashMap<>();
+        // Keep towns added while the source collection was being loaded
+        for (Town town : snapshot.towns.values()) {
+            entries.put(town.getId(), town);
+        }
+        for (Town town : towns) {
+            entries.put(town.getId(), copyOf(town));
+        }
+        snapshot = Snapshot.build(entries.values());
+        ready = true;
+    }
+
+    /**
+     * Adds or replaces a single town.
+     *
+     * @param town persisted town with its identifier assigned
+     */
+    public synchronized void add(Town town) {
+        Map<Long, Town> entries = new HashMap<>(snapshot.towns);
+        entries.put(town.getId(), copyOf(town));
+        snapshot = Snapshot.build(entries.values());
+    }
+
+    /**
+     * Removes a deleted town.
+     *
+     * @param id identifier of the deleted town
+     */
+    public synchronized void remove(Long id) {
+        Map<Long, Town> entries = new HashMap<>(snapshot.towns);
+        if (entries.remove(id) != null) {
+            snapshot = Snapshot.build(entries.values());
+        }
+    }
+
+    /**
+     * Finds towns whose name, or any word of it, starts with the query.
+     * Matching ignores case and diacritics.
+     *
+     * @param query search text; an empty query returns the first towns in name order
+     * @param limit maximum number of results
+     * @return matching towns, full-name matches first, each group sorted by name
+     */
+    public List<Town> search(String query, int limit) {
+        return snapshot.search(normalize(query), limit);
+    }
+
+    /**
+     * Normalizes a town name or query for comparison: strips diacritics,
+     * lower-cases and collapses surrounding whitespace.
+     */
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("")
+                .replace('ł', 'l').replace('Ł', 'L')
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static Town copyOf(Town town) {
+        Town copy = new Town(town.getTownName(), town.getPostalCode(), town.getLatitude(), town.getLongitude());
+        copy.setId(town.getId());
+        return copy;
+    }
+
+    private record Entry(String key, Town town) {
+    }
+
+    private static final class Snapshot {
+        private static final Comparator<Entry> BY_KEY = Comparator.comparing(Entry::key)
+                .thenComparing(entry -> entry.town().getTownName());
+
+        private final Map<Long, Town> towns;
+        private final Entry[] names;
+        private final String[] nameKeys;
+        private final Entry[] words;
+        private final String[] wordKeys;
+
+        private Snapshot(Map<Long, Town> towns, Entry[] names, Entry[] words) {
+            this.towns = towns;
+            this.names = names;
+            this.words = words;
+            this.nameKeys = Arrays.stream(names).map(Entry::key).toArray(String[]::new);
+            this.wordKeys = Arrays.stream(words).map(Entry::key).toArray(String[]::new);
+        }
+
+        static Snapshot build(Collection<Town> towns) {
+            Map<Long, Town> byId = new HashMap<>();
+            List<Entry> names = new ArrayList<>(towns.size());
+            List<Entry> words = new ArrayList<>();
+            for (Town town : towns) {
+                byId.put(town.getId(), town);
+                String key = normalize(town.getTownName());
+                names.add(new Entry(key, town));
+                String[] parts = WORD_SEPARATOR.split(key);
+                int offset = 0;
+                for (int i = 0; i < parts.length; i++) {
+                    offset = key.indexOf(parts[i], offset);
+                    if (i > 0 && !parts[i].isEmpty()) {
+                        words.add(new Entry(key.substring(offset), town));
+                    }
+                    offset += parts[i].length();
+                }
+            }
+            names.sort(BY_KEY);
+            words.sort(BY_KEY);
+            return new Snapshot(Map.copyOf(byId), names.toArray(new Entry[0]), words.toArray(new Entry[0]));
+        }
+
+        List<Town> search(String prefix, int limit) {
+            Set<Town> result = new LinkedHashSet<>();
+            collect(names, nameKeys, prefix, limit, result);
+            if (!prefix.isEmpty()) {
+                collect(words, wordKeys, prefix, limit, result);
+            }
+            return new ArrayList<>(result);
+        }
+
+        private static void collect(Entry[] entries, String[] keys, String prefix, int limit, Set<Town> result) {
+            int position = Arrays.binarySearch(keys, prefix);
+            if (position < 0) {
+                position = -position - 1;
+            }
+            // Entries sharing the same key are adjacent, step back to the first one
+            while (position > 0 && keys[position - 1].equals(prefix)) {
+                position--;
+            }
+            for (int i = position; i < keys.length && result.size() < limit && keys[i].startsWith(prefix); i++) {
+                result.add(entries[i].town());
+            }
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.futurum.campaign_manager.service;
 import com.futurum.campaign_manager.dto.TownDTO;
 import com.futurum.campaign_manager.model.Town;
 import com.futurum.campaign_manager.repository.TownRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,17 +16,33 @@ import java.util.stream.Collectors;
  * Service class for managing Town entities.
  * Provides business logic for town-related operations including
  * data retrieval and conversion to DTOs.
+ * <p>
+ * Town searches are served from the in-memory {@link TownIndex}, which is built
+ * once the application has started. Until then searches fall back to the database.
  */
 @Service
+@Timed(ServiceMetrics.SERVICE_TIMER)
 public class TownService {
 
+    static final int DEFAULT_SEARCH_LIMIT = 10;
+    static final int MAX_SEARCH_LIMIT = 100;
+
     private final TownRepository townRepository;
+    private final TownIndex townIndex;
 
     @Autowired
-    public TownService(TownRepository townRepository) {
+    public TownService(TownRepository townRepository, TownIndex townIndex) {
         this.townRepository = townRepository;
+        this.townIndex = townIndex;
     }
 
+    /**
+     * Builds the town search index from the full town table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSearchIndex() {
+        townIndex.rebuild(townRepository.findAll());
+    }
 
     public List<TownDTO> getAllTowns() {
         return townRepository.findAllByOrderByTownName().stream()
@@ -31,7 +50,34 @@ public class TownService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Searches towns by name prefix, ignoring case and diacritics.
+     *
+     * @param query search text; empty or {@code null} returns the first towns by name
+     * @param limit maximum number of results, capped at {@value #MAX_SEARCH_LIMIT};
+     *              {@code null} uses {@value #DEFAULT_SEARCH_LIMIT}
+     */
+    public List<TownDTO> searchTowns(String query, Integer limit) {
+        int max = limit == null ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        if (max < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        String text = query == null ? "" : query.trim();
+
+        List<Town> towns = townIndex.isReady()
+                ? townIndex.search(text, max)
+                : townRepository.findByTownNameContainingIgnoreCaseOrderByTownName(text);
+
+        return towns.stream()
+                .limit(max)
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     private TownDTO convertToDTO(Town town) {
-        return new TownDTO(town.getId(), town.getTownName(), town.getPostalCode());
+        TownDTO dto = new TownDTO(town.getId(), town.getTownName(), town.getPostalCode());
+        dto.setLatitude(town.getLatitude());
+        dto.setLongitude(town.getLongitude());
+        return dto;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
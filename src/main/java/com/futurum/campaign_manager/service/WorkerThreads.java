@@ -0,0 +1,30 @@
+package com.futurum.campaign_manager.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Single-thread executors for the background workers of the services, which spend most of
+ * their time waiting for the database.
+ * <p>
+ * With {@code spring.threads.virtual.enabled} the worker runs on a virtual thread, like the
+ * requests, {@code @Async} work and scheduled tasks, so the workers do not hold platform threads
+ * while they wait. Otherwise it runs on a daemon platform thread.
+ * </p>
+ */
+final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    static ExecutorService newSingleThreadExecutor(String name, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newSingleThreadExecutor(Thread.ofVirtual().name(name).factory());
+        }
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -2,14 +2,18 @@ import React from "react";
 
 const CampaignList = ({ onEditCampaign }) => {
     const [campaigns, setCampaigns] = React.useState([]);
+    const [nextCursor, setNextCursor] = React.useState(null);
     const [loading, setLoading] = React.useState(true);
+    const [loadingMore, setLoadingMore] = React.useState(false);
     const [error, setError] = React.useState(null);
 
+    // Loads the first page; further pages are fetched on demand by loadMore
     const fetchCampaigns = async () => {
         setLoading(true);
         try {
             const response = await api.getCampaigns();
             setCampaigns(response.data.data);
+            setNextCursor(response.data.nextCursor || null);
             setError(null);
         } catch (err) {
             setError('Failed to load campaigns');
@@ -19,6 +23,19 @@ const CampaignList = ({ onEditCampaign }) => {
         }
     };
 
+    const loadMore = async () => {
+        setLoadingMore(true);
+        try {
+            const response = await api.getCampaigns(nextCursor);
+            setCampaigns(prev => prev.concat(response.data.data));
+            setNextCursor(response.data.nextCursor || null);
+        } catch (err) {
+            console.error('Error loading more campaigns:', err);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     React.useEffect(() => {
         fetchCampaigns();
     }, []);
@@ -83,6 +100,17 @@ const CampaignList = ({ onEditCampaign }) => {
                         ))}
                         </tbody>
                     </table>
+                    {nextCursor && (
+                        <div className="text-center">
+                            <button
+                                onClick={loadMore}
+                                disabled={loadingMore}
+                                className="btn btn-outline-secondary"
+                            >
+                                {loadingMore ? 'Loading...' : 'Load more'}
+                            </button>
+                        </div>
+                    )}
                 </div>
             )}
         </div>
@@ -6,14 +6,15 @@ const api = {
 
     // Towns
     getTowns: () => axios.get(`${API_BASE}/towns`),
-    searchTowns: (query) => axios.get(`${API_BASE}/towns/search?q=${query}`),
+    searchTowns: (query, limit = 10) => axios.get(`${API_BASE}/towns/search`, { params: { q: query, limit } }),
 
     // Keywords
     getKeywords: () => axios.get(`${API_BASE}/keywords`),
     searchKeywords: (query) => axios.get(`${API_BASE}/keywords/search?q=${query}`),
 
     // Campaigns
-    getCampaigns: () => axios.get(`${API_BASE}/campaigns`),
+    // One page of campaigns; pass the returned nextCursor to get the following page
+    getCampaigns: (cursor, size = 50) => axios.get(`${API_BASE}/campaigns`, { params: { cursor, size } }),
     getCampaign: (id) => axios.get(`${API_BASE}/campaigns/${id}`),
     createCampaign: (data) => axios.post(`${API_BASE}/campaigns`, data),
     updateCampaign: (id, data) => axios.put(`${API_BASE}/campaigns/${id}`, data),
@@ -0,0 +1,90 @@
+package com.futurum.campaign_manager;
+
+import com.futurum.campaign_manager.service.BudgetPacer;
+import com.futurum.campaign_manager.service.CampaignMatchingIndex;
+import com.futurum.campaign_manager.service.CampaignSpendLedger;
+import com.futurum.campaign_manager.service.ReferenceDataSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that requests, service methods, repositories and fund reservations show up in the
+ * Prometheus scrape, with histogram buckets for the timers.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics-test",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void prometheusEndpoint_ShouldExposeTimersCountersAndGauges() {
+        // Given
+        restTemplate.getForEntity("/api/keywords/search?q=sp", String.class);
+        Map<String, Object> campaign = Map.of(
+                "campaignName", "Metrics campaign",
+                "bidAmount", "1.00",
+                "campaignFund", "20.00",
+                "status", "ON",
+                "radius", 10,
+                "townId", 1,
+                "keywordIds", List.of(1));
+        assertEquals(HttpStatus.CREATED, restTemplate.postForEntity("/api/campaigns", campaign, String.class).getStatusCode());
+        Map<String, Object> auction = Map.of("keywords", List.of("electronics"), "townId", 1);
+        assertEquals(HttpStatus.OK, restTemplate.postForEntity("/api/auctions", auction, String.class).getStatusCode());
+
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String scrape = response.getBody();
+        assertNotNull(scrape);
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(scrape.contains("uri=\"/api/keywords/search\""));
+        assertTrue(scrape.contains("service_invocations_seconds_bucket{"));
+        assertTrue(scrape.contains("class=\"com.futurum.campaign_manager.service.CampaignService\""));
+        assertTrue(scrape.contains("method=\"createCampaign\""));
+        assertTrue(scrape.contains("method=\"runAuction\""));
+        // Helpers called for every auction candidate stay off the timing proxy
+        assertFalse(scrape.contains("method=\"servesAt\""));
+        assertFalse(scrape.contains("method=\"findTown\""));
+        assertFalse(scrape.contains("method=\"recordSpend\""));
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_bucket{"));
+        assertTrue(scrape.contains("account_fund_reservations_total{outcome=\"reserved\"}"));
+        assertTrue(scrape.contains("account_balance_currency{account=\"Emerald Account\"}"));
+        assertTrue(scrape.contains("campaigns{state=\"eligible\"}"));
+    }
+
+    @Test
+    void auctionCollaborators_ShouldNotBeProxied() {
+        // Called for every auction candidate; a proxy would time and allocate on each call
+        for (Class<?> type : List.of(CampaignMatchingIndex.class, BudgetPacer.class,
+                CampaignSpendLedger.class, ReferenceDataSnapshot.class)) {
+            assertFalse(AopUtils.isAopProxy(applicationContext.getBean(type)), type.getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.futurum.campaign_manager;
+
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import com.futurum.campaign_manager.repository.TownRepository;
+import com.futurum.campaign_manager.service.KeywordIndex;
+import com.futurum.campaign_manager.service.ReferenceDataSnapshot;
+import com.futurum.campaign_manager.service.ReferenceDataVersion;
+import com.futurum.campaign_manager.service.TownIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that towns and keywords are read from the second-level and query caches after the
+ * first load, that the query cache sees new rows, and that hits and misses are exposed as meters.
+ * Also checks that committed updates and deletes reach the in-memory indexes and snapshot.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reference-data-cache",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+class ReferenceDataCacheIntegrationTest {
+
+    @Autowired
+    private TownRepository townRepository;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private KeywordIndex keywordIndex;
+
+    @Autowired
+    private TownIndex townIndex;
+
+    @Autowired
+    private ReferenceDataSnapshot referenceDataSnapshot;
+
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findById_ShouldReadTownFromSecondLevelCache_AfterFirstLoad() {
+        // Given
+        Long townId = townRepository.findByTownName("London").orElseThrow().getId();
+        townRepository.findById(townId);
+        long statements = statistics.getPrepareStatementCount();
+
+        // When
+        Town town = townRepository.findById(townId).orElseThrow();
+
+        // Then
+        assertEquals("London", town.getTownName());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics("towns").getHitCount() > 0);
+    }
+
+    @Test
+    void findByName_ShouldBeAnsweredFromQueryCache_WhenRepeated() {
+        // Given
+        townRepository.findByTownName("Tokyo");
+        keywordRepository.findByKeywordText("sports");
+        long statements = statistics.getPrepareStatementCount();
+
+        // When
+        Town town = townRepository.findByTownName("Tokyo").orElseThrow();
+        Keyword keyword = keywordRepository.findByKeywordText("sports").orElseThrow();
+
+        // Then
+        assertEquals("Tokyo", town.getTownName());
+        assertEquals("sports", keyword.getKeywordText());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryRegionStatistics("towns-by-name").getHitCount());
+        assertEquals(1, statistics.getQueryRegionStatistics("keywords-by-text").getHitCount());
+    }
+
+    @Test
+    void findByName_ShouldSeeNewRows_AfterCachingMiss() {
+        // Given
+        assertTrue(keywordRepository.findByKeywordText("cache-test").isEmpty());
+
+        // When
+        keywordRepository.save(new Keyword("cache-test"));
+
+        // Then
+        assertTrue(keywordRepository.findByKeywordText("cache-test").isPresent());
+    }
+
+    @Test
+    void cacheRequests_ShouldBeExposedAsMeters() {
+        // Given
+        Long keywordId = keywordRepository.findByKeywordText("sports").orElseThrow().getId();
+
+        // When
+        keywordRepository.findById(keywordId);
+
+        // Then
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", "keywords", "result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.cache.query.requests")
+                .tags("result", "miss").functionCounter());
+    }
+
+    @Test
+    void update_ShouldReplaceKeywordInIndexAndSnapshot_AfterCommit() {
+        // Given
+        Keyword keyword = keywordRepository.save(new Keyword("listener-old"));
+        long version = referenceDataVersion.getKeywordsVersion();
+
+        // When
+        keyword.setKeywordText("listener-new");
+        keywordRepository.save(keyword);
+
+        // Then
+        assertTrue(keywordIndex.search("listener-old", 10).isEmpty());
+        assertEquals(1, keywordIndex.search("listener-new", 10).size());
+        assertEquals("listener-new", referenceDataSnapshot.findKeyword(keyword.getId()).getKeywordText());
+        assertEquals(version + 1, referenceDataVersion.getKeywordsVersion());
+    }
+
+    @Test
+    void delete_ShouldRemoveReferenceDataFromIndexesAndSnapshot_AfterCommit() {
+        // Given
+        Keyword keyword = keywordRepository.save(new Keyword("listener-deleted"));
+        Town town = townRepository.save(new Town("Listenerville"));
+        long keywordsVersion = referenceDataVersion.getKeywordsVersion();
+        long townsVersion = referenceDataVersion.getTownsVersion();
+
+        // When
+        keywordRepository.delete(keyword);
+        townRepository.delete(town);
+
+        // Then
+        assertTrue(keywordIndex.search("listener-deleted", 10).isEmpty());
+        assertTrue(townIndex.search("Listenerville", 10).isEmpty());
+        assertNull(referenceDataSnapshot.findKeyword(keyword.getId()));
+        assertNull(referenceDataSnapshot.findTown(town.getId()));
+        assertEquals(keywordsVersion + 1, referenceDataVersion.getKeywordsVersion());
+        assertEquals(townsVersion + 1, referenceDataVersion.getTownsVersion());
+    }
+}
@@ -0,0 +1,75 @@
+package com.futurum.campaign_manager.controller;
+
+import com.futurum.campaign_manager.dto.AuctionResultDTO;
+import com.futurum.campaign_manager.service.AuctionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AuctionController.class)
+class AuctionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AuctionService auctionService;
+
+    @Test
+    void runAuction_ShouldReturnWinner() throws Exception {
+        // Given
+        AuctionResultDTO result = new AuctionResultDTO();
+        result.setCampaignId(1L);
+        result.setBidAmount(new BigDecimal("3.00"));
+        result.setClearingPrice(new BigDecimal("2.00"));
+        when(auctionService.runAuction(any())).thenReturn(Optional.of(result));
+
+        // When & Then
+        mockMvc.perform(post("/api/auctions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keywords\":[\"shoes\"],\"townId\":3}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.campaignId").value(1))
+                .andExpect(jsonPath("$.data.clearingPrice").value(2.00));
+    }
+
+    @Test
+    void runAuction_ShouldReturnNoData_WhenNoCampaignWins() throws Exception {
+        // Given
+        when(auctionService.runAuction(any())).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(post("/api/auctions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keywords\":[\"shoes\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("No campaign won the auction"))
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void runAuction_ShouldReturn400_WhenKeywordsAreMissing() throws Exception {
+        // Given
+        when(auctionService.runAuction(any()))
+                .thenThrow(new IllegalArgumentException("At least one keyword is required"));
+
+        // When & Then
+        mockMvc.perform(post("/api/auctions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At least one keyword is required"));
+    }
+}
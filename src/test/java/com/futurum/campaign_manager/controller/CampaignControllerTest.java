@@ -1,8 +1,18 @@
 package com.futurum.campaign_manager.controller;
 
+import com.futurum.campaign_manager.dto.CampaignBulkResultDTO;
 import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignMatchDTO;
+import com.futurum.campaign_manager.dto.CampaignPageDTO;
+import com.futurum.campaign_manager.dto.CampaignStatsBucketDTO;
+import com.futurum.campaign_manager.dto.CampaignStatsDTO;
 import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.RollupGranularity;
+import com.futurum.campaign_manager.service.CampaignExportFormat;
+import com.futurum.campaign_manager.service.CampaignExportService;
+import com.futurum.campaign_manager.service.CampaignMatchingService;
 import com.futurum.campaign_manager.service.CampaignService;
+import com.futurum.campaign_manager.service.CampaignStatsService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -11,17 +21,29 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +56,15 @@ class CampaignControllerTest {
     @MockBean
     private CampaignService campaignService;
 
+    @MockBean
+    private CampaignExportService campaignExportService;
+
+    @MockBean
+    private CampaignMatchingService campaignMatchingService;
+
+    @MockBean
+    private CampaignStatsService campaignStatsService;
+
     @Test
     void getAllCampaigns_ShouldReturn200() throws Exception {
         // Given
@@ -45,14 +76,48 @@ class CampaignControllerTest {
         campaign.setRadius(10);
         campaign.setKeywordIds(Set.of(1L));
 
-        when(campaignService.getAllCampaigns()).thenReturn(List.of(campaign));
+        when(campaignService.getCampaignPage(null, null)).thenReturn(new CampaignPageDTO(List.of(campaign), null));
 
         // When & Then
         mockMvc.perform(get("/api/campaigns")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data[0].campaignName").value("Test Campaign"));
+                .andExpect(jsonPath("$.data[0].campaignName").value("Test Campaign"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getAllCampaigns_ShouldReturnNextCursor_WhenMorePagesExist() throws Exception {
+        // Given
+        CampaignDTO campaign = new CampaignDTO();
+        campaign.setId(7L);
+        campaign.setCampaignName("Paged Campaign");
+
+        when(campaignService.getCampaignPage("Ng", 1)).thenReturn(new CampaignPageDTO(List.of(campaign), "Nw"));
+
+        // When & Then
+        mockMvc.perform(get("/api/campaigns")
+                        .param("cursor", "Ng")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(7))
+                .andExpect(jsonPath("$.nextCursor").value("Nw"));
+    }
+
+    @Test
+    void getAllCampaigns_ShouldReturn400_WhenCursorIsInvalid() throws Exception {
+        // Given
+        when(campaignService.getCampaignPage("garbage", null)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        // When & Then
+        mockMvc.perform(get("/api/campaigns")
+                        .param("cursor", "garbage")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
     }
 
     @Test
@@ -102,7 +167,7 @@ class CampaignControllerTest {
     @Test
     void getAllCampaigns_ShouldReturnEmptyList() throws Exception {
         // Given
-        when(campaignService.getAllCampaigns()).thenReturn(List.of());
+        when(campaignService.getCampaignPage(null, null)).thenReturn(new CampaignPageDTO(List.of(), null));
 
         // When & Then
         mockMvc.perform(get("/api/campaigns")
@@ -134,4 +199,185 @@ class CampaignControllerTest {
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.message").exists());
     }
+
+    @Test
+    void saveCampaigns_ShouldReturnResultPerItem() throws Exception {
+        // Given
+        CampaignDTO saved = new CampaignDTO();
+        saved.setId(51L);
+        saved.setCampaignName("Bulk Campaign");
+
+        when(campaignService.saveCampaigns(anyList())).thenReturn(List.of(
+                CampaignBulkResultDTO.saved(0, saved),
+                CampaignBulkResultDTO.rejected(1, "Town not found")));
+
+        // When & Then
+        mockMvc.perform(post("/api/campaigns/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                    [
+                        {"campaignName": "Bulk Campaign", "bidAmount": 1.00, "campaignFund": 10.00,
+                         "status": "ON", "radius": 5, "keywordIds": [1]},
+                        {"campaignName": "Broken", "bidAmount": 1.00, "campaignFund": 10.00,
+                         "status": "ON", "radius": 5, "keywordIds": [1], "townId": 999}
+                    ]"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Saved 1 of 2 campaigns"))
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[0].campaign.id").value(51))
+                .andExpect(jsonPath("$.data[1].index").value(1))
+                .andExpect(jsonPath("$.data[1].error").value("Town not found"));
+    }
+
+    @Test
+    void exportCampaigns_ShouldStreamCsv() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("ID,Campaign Name\n1,Test\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(campaignExportService).export(eq(CampaignExportFormat.CSV), any(OutputStream.class));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(get("/api/campaigns/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"campaigns.csv\""))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string("ID,Campaign Name\n1,Test\n"));
+    }
+
+    @Test
+    void exportCampaigns_ShouldReturn400_WhenFormatIsUnsupported() throws Exception {
+        mockMvc.perform(get("/api/campaigns/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported export format: xml"));
+        verifyNoInteractions(campaignExportService);
+    }
+
+    @Test
+    void matchCampaigns_ShouldReturnRankedCampaigns() throws Exception {
+        // Given
+        when(campaignMatchingService.match("shoes", 3L, null)).thenReturn(List.of(
+                new CampaignMatchDTO(2L, "High", new BigDecimal("2.00"), new BigDecimal("50.00"), 3L, "Paris", 10),
+                new CampaignMatchDTO(1L, "Low", new BigDecimal("1.00"), new BigDecimal("50.00"), null, null, 10)));
+
+        // When & Then
+        mockMvc.perform(get("/api/campaigns/match")
+                        .param("keyword", "shoes")
+                        .param("townId", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].campaignId").value(2))
+                .andExpect(jsonPath("$.data[1].campaignName").value("Low"));
+    }
+
+    @Test
+    void getCampaignStats_ShouldReturnBucketsOfTheRange() throws Exception {
+        // Given
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-01-02T00:00:00Z");
+        CampaignStatsDTO stats = new CampaignStatsDTO();
+        stats.setCampaignId(1L);
+        stats.setGranularity(RollupGranularity.HOUR);
+        stats.setImpressions(12);
+        stats.setBuckets(List.of(new CampaignStatsBucketDTO(from, 12, 3, new BigDecimal("4.50"))));
+        when(campaignStatsService.getStats(1L, RollupGranularity.HOUR, from, to)).thenReturn(stats);
+
+        // When & Then
+        mockMvc.perform(get("/api/campaigns/1/stats")
+                        .param("granularity", "hour")
+                        .param("from", "2025-01-01T00:00:00Z")
+                        .param("to", "2025-01-02T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.granularity").value("HOUR"))
+                .andExpect(jsonPath("$.data.impressions").value(12))
+                .andExpect(jsonPath("$.data.buckets[0].clicks").value(3))
+                .andExpect(jsonPath("$.data.buckets[0].spend").value(4.50));
+    }
+
+    @Test
+    void getCampaignStats_ShouldReturn400_WhenGranularityIsUnsupported() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/campaigns/1/stats")
+                        .param("granularity", "week"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported granularity: week"));
+        verifyNoInteractions(campaignStatsService);
+    }
+
+    @Test
+    void matchCampaigns_ShouldReturn400_WhenLimitIsInvalid() throws Exception {
+        // Given
+        when(campaignMatchingService.match("shoes", null, 0))
+                .thenThrow(new IllegalArgumentException("Limit must be at least 1"));
+
+        // When & Then
+        mockMvc.perform(get("/api/campaigns/match")
+                        .param("keyword", "shoes")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be at least 1"));
+    }
+
+    @Test
+    void findCoveringCampaigns_ShouldReturnCampaigns() throws Exception {
+        // Given
+        when(campaignMatchingService.findCovering(48.8566, 2.3522, null)).thenReturn(List.of(
+                new CampaignMatchDTO(2L, "Regional", new BigDecimal("2.00"), new BigDecimal("50.00"), 1L, "London", 400)));
+
+        // When & Then
+        mockMvc.perform(get("/api/campaigns/covering")
+                        .param("lat", "48.8566")
+                        .param("lon", "2.3522"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].townName").value("London"))
+                .andExpect(jsonPath("$.data[0].distanceKm").doesNotExist());
+    }
+
+    @Test
+    void findNearbyCampaigns_ShouldReturnDistances() throws Exception {
+        // Given
+        CampaignMatchDTO match = new CampaignMatchDTO(2L, "Regional", new BigDecimal("2.00"), new BigDecimal("50.00"), 1L, "London", 10);
+        match.setDistanceKm(343.9);
+        when(campaignMatchingService.findNear(3L, 500.0, 5)).thenReturn(List.of(match));
+
+        // When & Then
+        mockMvc.perform(get("/api/campaigns/near")
+                        .param("townId", "3")
+                        .param("distanceKm", "500")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].distanceKm").value(343.9));
+    }
+
+    @Test
+    void findNearbyCampaigns_ShouldReturn400_WhenTownHasNoCoordinates() throws Exception {
+        // Given
+        when(campaignMatchingService.findNear(3L, 500.0, null))
+                .thenThrow(new IllegalArgumentException("Town has no coordinates"));
+
+        // When & Then
+        mockMvc.perform(get("/api/campaigns/near")
+                        .param("townId", "3")
+                        .param("distanceKm", "500"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Town has no coordinates"));
+    }
+
+    @Test
+    void saveCampaigns_ShouldReturn400_WhenFundsAreInsufficient() throws Exception {
+        // Given
+        when(campaignService.saveCampaigns(anyList()))
+                .thenThrow(new IllegalArgumentException("Insufficient funds in Emerald Account"));
+
+        // When & Then
+        mockMvc.perform(post("/api/campaigns/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Insufficient funds in Emerald Account"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.futurum.campaign_manager.controller;
+
+import com.futurum.campaign_manager.dto.CampaignImportStatusDTO;
+import com.futurum.campaign_manager.service.CampaignImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CampaignImportController.class)
+class CampaignImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CampaignImportService campaignImportService;
+
+    @Test
+    void startImport_ShouldReturn202WithJobId() throws Exception {
+        // Given
+        CampaignImportStatusDTO status = new CampaignImportStatusDTO();
+        status.setJobId("job-1");
+        status.setStatus("QUEUED");
+        when(campaignImportService.startImport(eq("campaigns.csv"), any(InputStream.class))).thenReturn(status);
+
+        // When & Then
+        mockMvc.perform(multipart("/api/campaigns/import")
+                        .file(new MockMultipartFile("file", "campaigns.csv", "text/csv", "Name\n".getBytes())))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.status").value("QUEUED"));
+    }
+
+    @Test
+    void startImport_ShouldReturn400_WhenFileIsEmpty() throws Exception {
+        // Given
+        when(campaignImportService.startImport(any(), any(InputStream.class)))
+                .thenThrow(new IllegalArgumentException("CSV file is empty"));
+
+        // When & Then
+        mockMvc.perform(multipart("/api/campaigns/import")
+                        .file(new MockMultipartFile("file", "empty.csv", "text/csv", new byte[0])))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CSV file is empty"));
+    }
+
+    @Test
+    void getImportStatus_ShouldReturnProgress_OrNotFound() throws Exception {
+        // Given
+        CampaignImportStatusDTO status = new CampaignImportStatusDTO();
+        status.setJobId("job-1");
+        status.setImported(40);
+        status.setErrors(List.of(new CampaignImportStatusDTO.LineError(42, "Town not found: Atlantis")));
+        when(campaignImportService.getImportStatus("job-1")).thenReturn(Optional.of(status));
+        when(campaignImportService.getImportStatus("missing")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/campaigns/import/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(40))
+                .andExpect(jsonPath("$.data.errors[0].line").value(42))
+                .andExpect(jsonPath("$.data.errors[0].message").value("Town not found: Atlantis"));
+        mockMvc.perform(get("/api/campaigns/import/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,70 @@
+package com.futurum.campaign_manager.controller;
+
+import com.futurum.campaign_manager.service.DeliveryEventService;
+import com.futurum.campaign_manager.service.EventBufferFullException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DeliveryEventController.class)
+class DeliveryEventControllerTest {
+
+    private static final String EVENTS = "[{\"type\":\"IMPRESSION\",\"campaignId\":1,\"timestamp\":\"2025-01-01T12:00:00Z\"},"
+            + "{\"type\":\"CLICK\",\"campaignId\":1}]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DeliveryEventService deliveryEventService;
+
+    @Test
+    void ingestEvents_ShouldAcceptEvents() throws Exception {
+        // Given
+        when(deliveryEventService.ingest(anyList())).thenReturn(2);
+
+        // When & Then
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENTS))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data").value(2));
+    }
+
+    @Test
+    void ingestEvents_ShouldReturnBadRequest_WhenEventsAreInvalid() throws Exception {
+        // Given
+        when(deliveryEventService.ingest(anyList())).thenThrow(new IllegalArgumentException("Campaign not found: 1"));
+
+        // When & Then
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENTS))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Campaign not found: 1"));
+    }
+
+    @Test
+    void ingestEvents_ShouldAskToRetry_WhenBufferIsFull() throws Exception {
+        // Given
+        when(deliveryEventService.ingest(anyList())).thenThrow(new EventBufferFullException("Event buffer is full, retry later"));
+
+        // When & Then
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENTS))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
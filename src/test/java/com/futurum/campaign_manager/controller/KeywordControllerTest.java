@@ -2,18 +2,30 @@ package com.futurum.campaign_manager.controller;
 
 import com.futurum.campaign_manager.dto.KeywordDTO;
 import com.futurum.campaign_manager.service.KeywordService;
+import com.futurum.campaign_manager.service.ReferenceDataVersion;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -21,6 +33,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(KeywordController.class)
+@Import(ReferenceDataVersion.class)
 class KeywordControllerTest {
 
     @Autowired
@@ -29,6 +42,15 @@ class KeywordControllerTest {
     @MockBean
     private KeywordService keywordService;
 
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+
+    @BeforeEach
+    void setUp() {
+        // Each test stubs its own keywords, which the cached list response has not seen
+        referenceDataVersion.keywordsChanged();
+    }
+
     @Test
     void getAllKeywords_ShouldReturn200_WhenKeywordsExist() throws Exception {
         // Given
@@ -183,4 +205,82 @@ class KeywordControllerTest {
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data.length()").value(2));
     }
+
+    @Test
+    void getAllKeywords_ShouldReturnValidators() throws Exception {
+        // Given
+        when(keywordService.getAllKeywords()).thenReturn(List.of(new KeywordDTO(1L, "java")));
+
+        // When & Then
+        mockMvc.perform(get("/api/keywords"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, referenceDataVersion.getKeywordsETag()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate"));
+    }
+
+    @Test
+    void searchKeywords_ShouldReturn304WithoutCallingService_WhenETagMatches() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/keywords/search")
+                        .param("q", "ja")
+                        .header(HttpHeaders.IF_NONE_MATCH, referenceDataVersion.getKeywordsETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, referenceDataVersion.getKeywordsETag()))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(keywordService);
+    }
+
+    @Test
+    void getAllKeywords_ShouldReturn200_WhenKeywordsChangedSinceETag() throws Exception {
+        // Given
+        String staleETag = referenceDataVersion.getKeywordsETag();
+        referenceDataVersion.keywordsChanged();
+        when(keywordService.getAllKeywords()).thenReturn(List.of(new KeywordDTO(1L, "java")));
+
+        // When & Then
+        mockMvc.perform(get("/api/keywords")
+                        .header(HttpHeaders.IF_NONE_MATCH, staleETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, referenceDataVersion.getKeywordsETag()))
+                .andExpect(jsonPath("$.data.length()").value(1));
+
+        verify(keywordService).getAllKeywords();
+    }
+
+    @Test
+    void getAllKeywords_ShouldSerializeOncePerVersion() throws Exception {
+        // Given
+        when(keywordService.getAllKeywords()).thenReturn(List.of(new KeywordDTO(1L, "java")));
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/keywords"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].keywordText").value("java"));
+        }
+        verify(keywordService, times(1)).getAllKeywords();
+    }
+
+    @Test
+    void getAllKeywords_ShouldReturnGzip_WhenClientAcceptsIt() throws Exception {
+        // Given
+        when(keywordService.getAllKeywords()).thenReturn(List.of(new KeywordDTO(1L, "java")));
+        String json = mockMvc.perform(get("/api/keywords"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsString();
+
+        // When & Then
+        byte[] compressed = mockMvc.perform(get("/api/keywords")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
 }
\ No newline at end of file
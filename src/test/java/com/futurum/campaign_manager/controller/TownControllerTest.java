@@ -1,25 +1,33 @@
 package com.futurum.campaign_manager.controller;
 
 import com.futurum.campaign_manager.dto.TownDTO;
+import com.futurum.campaign_manager.service.ReferenceDataVersion;
 import com.futurum.campaign_manager.service.TownService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(TownController.class)
+@Import(ReferenceDataVersion.class)
 class TownControllerTest {
 
     @Autowired
@@ -28,6 +36,15 @@ class TownControllerTest {
     @MockBean
     private TownService townService;
 
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+
+    @BeforeEach
+    void setUp() {
+        // Each test stubs its own towns, which the cached list response has not seen
+        referenceDataVersion.townsChanged();
+    }
+
     @Test
     void getAllTowns_ShouldReturn200() throws Exception {
         // Given
@@ -79,4 +96,47 @@ class TownControllerTest {
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data.length()").value(0));
     }
+
+    @Test
+    void searchTowns_ShouldReturn200_WhenTownsFound() throws Exception {
+        // Given
+        when(townService.searchTowns("kra", 5)).thenReturn(List.of(new TownDTO(2L, "Kraków", "30-001")));
+
+        // When & Then
+        mockMvc.perform(get("/api/towns/search")
+                        .param("q", "kra")
+                        .param("limit", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Towns found"))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].townName").value("Kraków"));
+    }
+
+    @Test
+    void searchTowns_ShouldReturn400_WhenLimitIsInvalid() throws Exception {
+        // Given
+        when(townService.searchTowns(eq("kra"), any())).thenThrow(new IllegalArgumentException("Limit must be at least 1"));
+
+        // When & Then
+        mockMvc.perform(get("/api/towns/search")
+                        .param("q", "kra")
+                        .param("limit", "0")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Limit must be at least 1"));
+    }
+
+    @Test
+    void getAllTowns_ShouldReturn304WithoutCallingService_WhenETagMatches() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/towns")
+                        .header(HttpHeaders.IF_NONE_MATCH, referenceDataVersion.getTownsETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate"));
+
+        verifyNoInteractions(townService);
+    }
 }
\ No newline at end of file
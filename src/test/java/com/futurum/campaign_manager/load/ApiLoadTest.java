@@ -0,0 +1,340 @@
+package com.futurum.campaign_manager.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.futurum.campaign_manager.service.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test of the REST API: boots the application on a random port, seeds campaigns and
+ * drives a mix of typeahead searches, listing, creates, updates, deletes and balance reads
+ * at a fixed arrival rate, one virtual thread per request.
+ * <p>
+ * Requests are started on schedule whether or not earlier ones have completed, and latency is
+ * measured from when a request was due, so a slow server shows up as queueing delay instead
+ * of as a lower request rate. Throughput, p50/p99/p999 latency and error rate per endpoint are
+ * printed and written as JSON to {@code load.report} (default {@code target/load-test-report.json}).
+ * </p>
+ *
+ * <p>
+ * Tagged {@code load} and excluded from {@code mvn test}; run it with {@code mvn -P load-test test}.
+ * The run is configured with system properties: {@code load.rate} (requests per second),
+ * {@code load.duration-seconds}, {@code load.warmup-seconds}, {@code load.seed-campaigns},
+ * {@code load.max-error-rate} and {@code load.report}. {@code load.profiles} adds Spring profiles,
+ * for instance {@code -Dload.profiles=virtual} to compare virtual with platform request threads.
+ * </p>
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-test",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles(resolver = ApiLoadTest.LoadProfiles.class)
+class ApiLoadTest {
+
+    private static final String ACCOUNT = "Emerald Account";
+    private static final int SEED_BATCH = 1_000;
+    private static final String[] SEARCH_TERMS = {"s", "sp", "spo", "tr", "tra", "fa", "fas", "mu", "te", "ca", "ho", "fo"};
+    private static final String[] TOWN_TERMS = {"l", "lo", "lon", "p", "pa", "par", "b", "be", "ber", "to", "ma", "ro"};
+
+    private final int rate = Integer.getInteger("load.rate", 200);
+    private final int durationSeconds = Integer.getInteger("load.duration-seconds", 30);
+    private final int warmupSeconds = Integer.getInteger("load.warmup-seconds", 5);
+    private final int seedCampaigns = Integer.getInteger("load.seed-campaigns", 5_000);
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private final Path reportPath = Path.of(System.getProperty("load.report", "target/load-test-report.json"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private HttpClient client;
+    private List<Long> townIds;
+    private List<Long> keywordIds;
+    // Seeded campaigns are updated and never deleted, created ones are deleted
+    private final List<Long> seededIds = new ArrayList<>();
+    private final ConcurrentLinkedDeque<Long> createdIds = new ConcurrentLinkedDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Activates the test profile and the profiles listed in {@code load.profiles}.
+     */
+    static class LoadProfiles implements ActiveProfilesResolver {
+
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            List<String> profiles = new ArrayList<>(List.of("test"));
+            Arrays.stream(System.getProperty("load.profiles", "").split(","))
+                    .map(String::trim)
+                    .filter(profile -> !profile.isEmpty())
+                    .forEach(profiles::add);
+            return profiles.toArray(String[]::new);
+        }
+    }
+
+    /**
+     * Operations of the traffic mix with their share of requests.
+     */
+    private enum Operation {
+        SEARCH_KEYWORDS(30),
+        SEARCH_TOWNS(15),
+        LIST_CAMPAIGNS(20),
+        GET_BALANCE(10),
+        CREATE_CAMPAIGN(10),
+        UPDATE_CAMPAIGN(10),
+        DELETE_CAMPAIGN(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException("Weights must add up to 100");
+        }
+    }
+
+    @BeforeEach
+    void seed() throws Exception {
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        townIds = ids(send(get("/api/towns")).body());
+        keywordIds = ids(send(get("/api/keywords")).body());
+
+        // Enough for the seeded campaigns and every create of the run
+        accountService.addFunds(ACCOUNT, new BigDecimal(seedCampaigns + (long) rate * (durationSeconds + warmupSeconds))
+                .multiply(new BigDecimal("10.00")));
+        for (int start = 0; start < seedCampaigns; start += SEED_BATCH) {
+            List<Map<String, Object>> batch = new ArrayList<>();
+            for (int i = start; i < Math.min(seedCampaigns, start + SEED_BATCH); i++) {
+                batch.add(campaign("Seed " + i));
+            }
+            HttpResponse<String> response = send(json("/api/campaigns/bulk", "POST", batch));
+            assertEquals(200, response.statusCode(), response.body());
+            for (JsonNode result : objectMapper.readTree(response.body()).path("data")) {
+                assertTrue(result.path("success").asBoolean(), result.path("error").asText());
+                seededIds.add(result.path("campaign").path("id").asLong());
+            }
+        }
+    }
+
+    @Test
+    void mixedTraffic_ShouldStayWithinErrorBudget() throws Exception {
+        Map<Operation, EndpointStats> stats = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.name()));
+        }
+
+        run(warmupSeconds, null);
+        long start = System.nanoTime();
+        run(durationSeconds, stats);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        System.out.printf("Load test: %d requests/s for %d s against %d seeded campaigns, profiles %s, virtual threads %s%n",
+                rate, durationSeconds, seedCampaigns, Arrays.toString(environment.getActiveProfiles()), virtualThreads());
+        System.out.printf("%-16s %8s %10s %10s %10s %10s %8s%n", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors");
+        for (EndpointStats endpoint : stats.values()) {
+            Map<String, Object> summary = endpoint.summary(elapsed);
+            endpoints.add(summary);
+            System.out.printf("%-16s %8d %10.1f %10.2f %10.2f %10.2f %7.2f%%%n", endpoint.getName(), summary.get("requests"),
+                    summary.get("throughputPerSecond"), summary.get("p50Millis"), summary.get("p99Millis"),
+                    summary.get("p999Millis"), endpoint.getErrorRate() * 100);
+        }
+        writeReport(elapsed, endpoints);
+
+        for (EndpointStats endpoint : stats.values()) {
+            assertTrue(endpoint.getCount() > 0, endpoint.getName() + " was never called");
+            assertTrue(endpoint.getErrorRate() <= maxErrorRate,
+                    endpoint.getName() + " error rate " + endpoint.getErrorRate() + " is above " + maxErrorRate);
+        }
+    }
+
+    /**
+     * Starts {@code rate} requests per second for the given time and waits for all of them
+     * to complete. Nothing is recorded when {@code stats} is null.
+     */
+    private void run(int seconds, Map<Operation, EndpointStats> stats) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) rate * seconds;
+        long start = System.nanoTime();
+        List<Future<?>> pending = new ArrayList<>();
+        for (long i = 0; i < total; i++) {
+            long due = start + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = Operation.pick(ThreadLocalRandom.current().nextInt(100));
+            pending.add(executor.submit(() -> {
+                boolean error;
+                try {
+                    error = call(operation) >= 400;
+                } catch (Exception e) {
+                    error = true;
+                }
+                if (stats != null) {
+                    stats.get(operation).record(System.nanoTime() - due, error);
+                }
+            }));
+        }
+        for (Future<?> request : pending) {
+            try {
+                request.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Sends one request of the operation and returns its status.
+     */
+    private int call(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case SEARCH_KEYWORDS -> send(get("/api/keywords/search?q=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)])).statusCode();
+            case SEARCH_TOWNS -> send(get("/api/towns/search?q=" + TOWN_TERMS[random.nextInt(TOWN_TERMS.length)] + "&limit=10")).statusCode();
+            case LIST_CAMPAIGNS -> send(get("/api/campaigns?size=50")).statusCode();
+            case GET_BALANCE -> send(get("/api/account/balance")).statusCode();
+            case CREATE_CAMPAIGN -> create();
+            case UPDATE_CAMPAIGN -> {
+                long id = seededIds.get(random.nextInt(seededIds.size()));
+                Map<String, Object> campaign = campaign("Updated " + sequence.incrementAndGet());
+                yield send(json("/api/campaigns/" + id, "PUT", campaign)).statusCode();
+            }
+            case DELETE_CAMPAIGN -> {
+                Long id = createdIds.pollFirst();
+                // Nothing created yet to delete: create one so the mix keeps its shape
+                yield id == null ? create() : send(request("/api/campaigns/" + id).DELETE().build()).statusCode();
+            }
+        };
+    }
+
+    private int create() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(json("/api/campaigns", "POST", campaign("Load " + sequence.incrementAndGet())));
+        if (response.statusCode() < 400) {
+            createdIds.add(objectMapper.readTree(response.body()).path("data").path("id").asLong());
+        }
+        return response.statusCode();
+    }
+
+    private Map<String, Object> campaign(String name) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> campaign = new LinkedHashMap<>();
+        campaign.put("campaignName", name);
+        campaign.put("bidAmount", new BigDecimal(random.nextInt(10, 500)).movePointLeft(2));
+        campaign.put("campaignFund", new BigDecimal("10.00"));
+        campaign.put("status", "ON");
+        campaign.put("radius", random.nextInt(1, 200));
+        campaign.put("townId", townIds.get(random.nextInt(townIds.size())));
+        campaign.put("keywordIds", List.of(keywordIds.get(random.nextInt(keywordIds.size()))));
+        return campaign;
+    }
+
+    private void writeReport(double elapsed, List<Map<String, Object>> endpoints) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("targetRatePerSecond", rate);
+        report.put("durationSeconds", elapsed);
+        report.put("seededCampaigns", seedCampaigns);
+        report.put("profiles", environment.getActiveProfiles());
+        report.put("virtualThreads", virtualThreads());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("endpoints", endpoints);
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Load test report written to " + reportPath.toAbsolutePath());
+    }
+
+    private boolean virtualThreads() {
+        return environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+    }
+
+    private List<Long> ids(String body) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode node : objectMapper.readTree(body).path("data")) {
+            ids.add(node.path("id").asLong());
+        }
+        assertFalse(ids.isEmpty(), "Sample data is missing");
+        return ids;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, Object body) throws IOException {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.futurum.campaign_manager.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latencies and errors recorded for one endpoint during a load run. Every latency is kept,
+ * so percentiles are exact rather than estimated from a histogram.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one request.
+     *
+     * @param latencyNanos time from when the request was due to when its response arrived
+     * @param error        whether the request failed or was answered with an error status
+     */
+    void record(long latencyNanos, boolean error) {
+        lock.lock();
+        try {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getCount() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double getErrorRate() {
+        lock.lock();
+        try {
+            return count == 0 ? 0 : (double) errors / count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Summarizes the recorded requests, with latencies in milliseconds.
+     */
+    Map<String, Object> summary(double durationSeconds) {
+        long[] sorted;
+        int failed;
+        lock.lock();
+        try {
+            sorted = Arrays.copyOf(latencies, count);
+            failed = errors;
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoint", name);
+        summary.put("requests", sorted.length);
+        summary.put("errors", failed);
+        summary.put("errorRate", sorted.length == 0 ? 0 : (double) failed / sorted.length);
+        summary.put("throughputPerSecond", sorted.length / durationSeconds);
+        summary.put("p50Millis", percentileMillis(sorted, 0.50));
+        summary.put("p99Millis", percentileMillis(sorted, 0.99));
+        summary.put("p999Millis", percentileMillis(sorted, 0.999));
+        summary.put("maxMillis", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        return summary;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted latencies.
+     */
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
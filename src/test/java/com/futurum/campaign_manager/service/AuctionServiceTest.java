@@ -0,0 +1,349 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.AuctionRequestDTO;
+import com.futurum.campaign_manager.dto.AuctionResultDTO;
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Town;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final List<String> KEYWORDS = List.of("shoes", "fashion", "travel", "books", "cars");
+    private static final List<List<String>> REQUESTS = List.of(List.of("shoes"), List.of("fashion", "travel"),
+            List.of("books", "cars", "shoes"));
+    // The returned result (Optional, AuctionResultDTO and its amounts) and the requested town
+    private static final long RESULT_BYTES = 352;
+    // A new candidate buffer alone takes over 7 KB
+    private static final long NEW_THREAD_BYTES = 1_024;
+
+    @Mock
+    private CampaignService campaignService;
+
+    @Mock
+    private ReferenceDataSnapshot referenceDataSnapshot;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private CampaignMatchingIndex matchingIndex;
+    private CampaignSpendLedger spendLedger;
+    private MutableClock clock;
+    private BudgetPacer budgetPacer;
+    private AuctionService auctionService;
+
+    @BeforeEach
+    void setUp() {
+        matchingIndex = new CampaignMatchingIndex();
+        spendLedger = new CampaignSpendLedger(jdbcTemplate, transactionTemplate, new BigDecimal("1000.00"), false);
+        clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        budgetPacer = new BudgetPacer(matchingIndex, spendLedger, clock, true, 3_600_000, 60_000, 100);
+        CampaignMatchingService matchingService = new CampaignMatchingService(campaignService, matchingIndex,
+                new CampaignGeoIndex(), referenceDataSnapshot, budgetPacer);
+        auctionService = new AuctionService(matchingIndex, matchingService, referenceDataSnapshot, spendLedger, budgetPacer,
+                new BigDecimal("0.05"));
+    }
+
+    @Test
+    void runAuction_ShouldChargeWinnerTheRunnerUpBid() {
+        matchingIndex.upsert(campaign(1L, "3.00", "10.00", null, "shoes"));
+        matchingIndex.upsert(campaign(2L, "2.00", "10.00", null, "shoes", "fashion"));
+        matchingIndex.upsert(campaign(3L, "1.00", "10.00", null, "fashion"));
+
+        AuctionResultDTO result = auctionService.runAuction(new AuctionRequestDTO(List.of("shoes", "fashion"), null))
+                .orElseThrow();
+
+        assertThat(result.getCampaignId()).isEqualTo(1L);
+        assertThat(result.getClearingPrice()).isEqualByComparingTo("2.00");
+        assertThat(result.getRemainingFund()).isEqualByComparingTo("8.00");
+        assertThat(result.getCompetitors()).isEqualTo(2);
+        assertThat(spendLedger.getUnflushedSpend(1L)).isEqualByComparingTo("2.00");
+        Map<Long, Long> reported = new HashMap<>();
+        spendLedger.drainReportableSpend(reported::put);
+        assertThat(reported).containsExactly(Map.entry(1L, 200L));
+    }
+
+    @Test
+    void runAuction_ShouldChargeReservePriceWithoutCompetitors() {
+        matchingIndex.upsert(campaign(1L, "3.00", "10.00", null, "shoes"));
+        matchingIndex.upsert(campaign(2L, "0.04", "10.00", null, "shoes"));
+
+        AuctionResultDTO result = auctionService.runAuction(new AuctionRequestDTO(List.of("shoes"), null))
+                .orElseThrow();
+
+        assertThat(result.getClearingPrice()).isEqualByComparingTo("0.05");
+        assertThat(result.getCompetitors()).isZero();
+    }
+
+    @Test
+    void runAuction_ShouldSkipWinnerWhoseChargeIsRejected() {
+        matchingIndex.upsert(campaign(1L, "3.00", "10.00", null, "shoes"));
+        matchingIndex.upsert(campaign(2L, "2.00", "10.00", null, "shoes"));
+        matchingIndex.upsert(campaign(3L, "1.00", "10.00", null, "shoes"));
+        // Spent elsewhere before the index noticed
+        spendLedger.tryCharge(matchingIndex.get(1L), 900);
+
+        AuctionResultDTO result = auctionService.runAuction(new AuctionRequestDTO(List.of("shoes"), null))
+                .orElseThrow();
+
+        assertThat(result.getCampaignId()).isEqualTo(2L);
+        assertThat(result.getClearingPrice()).isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    void runAuction_ShouldDropCampaignOnceFundNoLongerCoversBid() {
+        matchingIndex.upsert(campaign(1L, "3.00", "4.00", null, "shoes"));
+        matchingIndex.upsert(campaign(2L, "2.00", "10.00", null, "shoes"));
+
+        auctionService.runAuction(new AuctionRequestDTO(List.of("shoes"), null));
+
+        assertThat(matchingIndex.get(1L).fundCents()).isEqualTo(200);
+        assertThat(matchingIndex.get(1L).status()).isEqualTo(CampaignStatus.OFF);
+        assertThat(matchingIndex.match("shoes", null, 10)).extracting(CampaignMatchingIndex.Entry::id)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void runAuction_ShouldOnlyConsiderCampaignsServingTheTown() {
+        Town london = town(1L, "London", 51.5074, -0.1278);
+        Town paris = town(2L, "Paris", 48.8566, 2.3522);
+        CampaignDTO regional = campaign(1L, "3.00", "10.00", 1L, "shoes");
+        regional.setRadius(400);
+        index(regional, london);
+        index(campaign(2L, "5.00", "10.00", 1L, "shoes"), london);
+        index(campaign(3L, "1.00", "10.00", 2L, "shoes"), paris);
+        when(referenceDataSnapshot.findTown(2L)).thenReturn(paris);
+
+        AuctionResultDTO result = auctionService.runAuction(new AuctionRequestDTO(List.of("shoes"), 2L))
+                .orElseThrow();
+
+        assertThat(result.getCampaignId()).isEqualTo(1L);
+        assertThat(result.getClearingPrice()).isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    void runAuction_ShouldSkipCampaignHeldBackByPacing() {
+        // 360.00 over a one hour flight paces 10 cents a second, due for a refill every 30 seconds
+        matchingIndex.upsert(campaign(1L, "3.00", "360.00", null, "shoes"));
+        matchingIndex.upsert(campaign(2L, "2.00", "10.00", null, "shoes"));
+        budgetPacer.replan();
+
+        assertThat(auctionService.runAuction(new AuctionRequestDTO(List.of("shoes"), null)).orElseThrow()
+                .getCampaignId()).isEqualTo(1L);
+        AuctionResultDTO second = auctionService.runAuction(new AuctionRequestDTO(List.of("shoes"), null))
+                .orElseThrow();
+
+        assertThat(second.getCampaignId()).isEqualTo(2L);
+        assertThat(budgetPacer.getAvailableCents(1L)).isEqualTo(100);
+
+        clock.advance(Duration.ofSeconds(30));
+        budgetPacer.tick();
+
+        assertThat(auctionService.runAuction(new AuctionRequestDTO(List.of("shoes"), null)).orElseThrow()
+                .getCampaignId()).isEqualTo(1L);
+    }
+
+    @Test
+    void runAuction_ShouldReturnEmptyWithoutCandidates() {
+        matchingIndex.upsert(campaign(1L, "3.00", "10.00", null, "shoes"));
+
+        assertThat(auctionService.runAuction(new AuctionRequestDTO(List.of("books"), null))).isEmpty();
+        assertThat(spendLedger.getUnflushedSpend(1L)).isZero();
+    }
+
+    @Test
+    void runAuction_ShouldRejectInvalidRequests() {
+        assertThatThrownBy(() -> auctionService.runAuction(new AuctionRequestDTO(List.of(), null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("At least one keyword is required");
+        assertThatThrownBy(() -> auctionService.runAuction(new AuctionRequestDTO(List.of("shoes"), 99L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Town not found");
+    }
+
+    @Test
+    void collect_ShouldNotAllocate_WhenServingAuctionsAtTowns() {
+        List<Town> towns = capitals();
+        indexCampaigns(towns, "100.00");
+        budgetPacer.replan();
+        AuctionCandidates candidates = new AuctionCandidates(AuctionService.MAX_KEYWORDS * AuctionService.CANDIDATES_PER_KEYWORD);
+
+        // Warm up so the measured auctions run compiled code
+        int auctions = 100_000;
+        for (int i = 0; i < auctions; i++) {
+            runOnce(candidates, REQUESTS.get(i % REQUESTS.size()), towns.get(i % towns.size()));
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long priceSum = 0;
+        for (int i = 0; i < auctions; i++) {
+            priceSum += runOnce(candidates, REQUESTS.get(i % REQUESTS.size()), towns.get(i % towns.size()));
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        assertThat(priceSum).isPositive();
+        assertThat(allocated / auctions).isZero();
+    }
+
+    @Test
+    void runAuction_ShouldAllocateOnlyTheResult_WhenCampaignsWin() {
+        List<Town> towns = capitals();
+        indexCampaigns(towns, "1000000.00");
+        AuctionService service = unpacedAuctionService(towns);
+        List<AuctionRequestDTO> requests = auctionRequests(towns);
+
+        // Warm up so the measured auctions run compiled code
+        int auctions = 100_000;
+        for (int i = 0; i < auctions; i++) {
+            service.runAuction(requests.get(i % requests.size()));
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        int won = 0;
+        for (int i = 0; i < auctions; i++) {
+            if (service.runAuction(requests.get(i % requests.size())).isPresent()) {
+                won++;
+            }
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        assertThat(won).isEqualTo(auctions);
+        assertThat(allocated / auctions).isLessThanOrEqualTo(RESULT_BYTES);
+    }
+
+    @Test
+    void runAuction_ShouldReuseCandidateBuffers_WhenEveryAuctionRunsOnANewThread() throws InterruptedException {
+        List<Town> towns = capitals();
+        indexCampaigns(towns, "1000000.00");
+        AuctionService service = unpacedAuctionService(towns);
+        List<AuctionRequestDTO> requests = auctionRequests(towns);
+        for (int i = 0; i < 100_000; i++) {
+            service.runAuction(requests.get(i % requests.size()));
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+
+        // Like requests on virtual threads, which never run a second auction on the same thread
+        long[] allocated = new long[200];
+        for (int i = 0; i < allocated.length; i++) {
+            AuctionRequestDTO request = requests.get(i % requests.size());
+            int auction = i;
+            Thread.ofPlatform().start(() -> {
+                long before = threads.getCurrentThreadAllocatedBytes();
+                service.runAuction(request);
+                allocated[auction] = threads.getCurrentThreadAllocatedBytes() - before;
+            }).join();
+        }
+
+        Arrays.sort(allocated);
+        assertThat(allocated[allocated.length / 2]).isLessThan(NEW_THREAD_BYTES);
+    }
+
+    private List<Town> capitals() {
+        return List.of(town(1L, "London", 51.5074, -0.1278), town(2L, "Paris", 48.8566, 2.3522),
+                town(3L, "Madrid", 40.4168, -3.7038));
+    }
+
+    private void indexCampaigns(List<Town> towns, String fund) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long id = 1; id <= 20_000; id++) {
+            // A quarter is not location targeted; of the rest, half reach the neighbouring capitals
+            Town town = id % 4 == 0 ? null : towns.get((int) (id % towns.size()));
+            CampaignDTO campaign = campaign(id, BigDecimal.valueOf(random.nextInt(5, 1000), 2).toPlainString(), fund,
+                    town == null ? null : town.getId(), KEYWORDS.get((int) (id % KEYWORDS.size())),
+                    KEYWORDS.get((int) ((id + 2) % KEYWORDS.size())));
+            campaign.setRadius(id % 2 == 0 ? 1_500 : 10);
+            index(campaign, town);
+        }
+    }
+
+    /**
+     * Wires an auction service without pacing and with real collaborators only, so that what it
+     * allocates is not hidden behind or added by mocks.
+     */
+    private AuctionService unpacedAuctionService(List<Town> towns) {
+        ReferenceDataSnapshot snapshot = new ReferenceDataSnapshot(null, null);
+        snapshot.addTowns(towns);
+        // Never reaches the flush threshold, so nothing is written during the test
+        CampaignSpendLedger ledger = new CampaignSpendLedger(jdbcTemplate, transactionTemplate,
+                new BigDecimal("100000000000.00"), false);
+        BudgetPacer pacer = new BudgetPacer(matchingIndex, ledger, clock, false, 3_600_000, 60_000, 100);
+        CampaignMatchingService matchingService = new CampaignMatchingService(campaignService, matchingIndex,
+                new CampaignGeoIndex(), snapshot, pacer);
+        return new AuctionService(matchingIndex, matchingService, snapshot, ledger, pacer, new BigDecimal("0.05"));
+    }
+
+    private static List<AuctionRequestDTO> auctionRequests(List<Town> towns) {
+        List<AuctionRequestDTO> requests = new ArrayList<>();
+        for (List<String> keywords : REQUESTS) {
+            for (Town town : towns) {
+                requests.add(new AuctionRequestDTO(keywords, town.getId()));
+            }
+        }
+        return requests;
+    }
+
+    private long runOnce(AuctionCandidates candidates, List<String> keywords, Town town) {
+        auctionService.collect(candidates, keywords, town);
+        long price = auctionService.clearingPrice(candidates, candidates.best());
+        candidates.clear();
+        return price;
+    }
+
+    private void index(CampaignDTO campaign, Town town) {
+        matchingIndex.upsert(campaign, town == null ? null : town.getLatitude(), town == null ? null : town.getLongitude());
+    }
+
+    private static CampaignDTO campaign(Long id, String bid, String fund, Long townId, String... keywords) {
+        CampaignDTO dto = new CampaignDTO();
+        dto.setId(id);
+        dto.setCampaignName("Campaign " + id);
+        dto.setBidAmount(new BigDecimal(bid));
+        dto.setCampaignFund(new BigDecimal(fund));
+        dto.setStatus(CampaignStatus.ON);
+        dto.setRadius(10);
+        dto.setTownId(townId);
+        dto.setKeywordTexts(Set.of(keywords));
+        dto.setUpdatedAt(NOW);
+        return dto;
+    }
+
+    private static Town town(Long id, String name, double latitude, double longitude) {
+        Town town = new Town(name, "00000", latitude, longitude);
+        town.setId(id);
+        return town;
+    }
+}
@@ -0,0 +1,163 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives {@link BudgetPacer} with a simulated clock over a one hour flight window.
+ */
+@ExtendWith(MockitoExtension.class)
+class BudgetPacerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final long FLIGHT_MILLIS = Duration.ofHours(1).toMillis();
+
+    @Mock
+    private CampaignSpendLedger spendLedger;
+
+    private CampaignMatchingIndex matchingIndex;
+    private MutableClock clock;
+    private BudgetPacer budgetPacer;
+
+    @BeforeEach
+    void setUp() {
+        matchingIndex = new CampaignMatchingIndex();
+        clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+        budgetPacer = new BudgetPacer(matchingIndex, spendLedger, clock, true, FLIGHT_MILLIS, 60_000, 100);
+        lenient().when(spendLedger.getRemainingCents(anyLong())).thenReturn(-1L);
+    }
+
+    @Test
+    void replan_ShouldSpreadFundOverFlightWindow() {
+        save(campaign(1L, "1.00", "36.00", CampaignStatus.ON));
+
+        budgetPacer.replan();
+
+        assertThat(budgetPacer.getPlannedRatePerHour(1L)).isEqualTo(3_600.0);
+        assertThat(budgetPacer.getAvailableCents(1L)).isEqualTo(100);
+        assertThat(budgetPacer.admits(matchingIndex.get(1L))).isTrue();
+    }
+
+    @Test
+    void admits_ShouldHoldCampaignBackUntilRefillIsDue() {
+        // One cent a second with a bid of one euro
+        save(campaign(1L, "1.00", "36.00", CampaignStatus.ON));
+        budgetPacer.replan();
+        CampaignMatchingIndex.Entry entry = matchingIndex.get(1L);
+
+        budgetPacer.consume(1L, 100);
+        assertThat(budgetPacer.admits(entry)).isFalse();
+
+        clock.advance(Duration.ofSeconds(30));
+        budgetPacer.tick();
+        // Not due yet, so nothing was refilled
+        assertThat(budgetPacer.getAvailableCents(1L)).isZero();
+        assertThat(budgetPacer.admits(entry)).isFalse();
+
+        clock.advance(Duration.ofSeconds(70));
+        budgetPacer.tick();
+        assertThat(budgetPacer.getAvailableCents(1L)).isEqualTo(100);
+        assertThat(budgetPacer.admits(entry)).isTrue();
+    }
+
+    @Test
+    void tick_ShouldCapTokensAtOneBurst() {
+        // 360.00 an hour earns 6.00 a minute, more than the bid
+        save(campaign(1L, "1.00", "360.00", CampaignStatus.ON));
+        budgetPacer.replan();
+
+        for (int i = 0; i < 100; i++) {
+            clock.advance(Duration.ofSeconds(10));
+            budgetPacer.tick();
+        }
+
+        assertThat(budgetPacer.getAvailableCents(1L)).isEqualTo(600);
+    }
+
+    @Test
+    void replan_ShouldFollowActualSpend() {
+        save(campaign(1L, "1.00", "36.00", CampaignStatus.ON));
+        save(campaign(2L, "1.00", "36.00", CampaignStatus.ON));
+        budgetPacer.replan();
+
+        clock.advance(Duration.ofMinutes(30));
+        // Campaign 1 has not spent anything, campaign 2 spent three quarters already
+        when(spendLedger.getRemainingCents(2L)).thenReturn(900L);
+        budgetPacer.replan();
+
+        assertThat(budgetPacer.getPlannedRatePerHour(1L)).isEqualTo(7_200.0);
+        assertThat(budgetPacer.getPlannedRatePerHour(2L)).isEqualTo(1_800.0);
+    }
+
+    @Test
+    void replan_ShouldStartNewFlightOnceFlightEnded() {
+        save(campaign(1L, "1.00", "36.00", CampaignStatus.ON));
+        budgetPacer.replan();
+
+        clock.advance(Duration.ofMinutes(90));
+        when(spendLedger.getRemainingCents(1L)).thenReturn(1_800L);
+        budgetPacer.replan();
+
+        assertThat(budgetPacer.getPlannedRatePerHour(1L)).isEqualTo(1_800.0);
+    }
+
+    @Test
+    void onCampaignsSaved_ShouldStopPacingCampaignsThatNoLongerServe() {
+        save(campaign(1L, "1.00", "36.00", CampaignStatus.ON));
+        save(campaign(2L, "1.00", "36.00", CampaignStatus.ON));
+        assertThat(budgetPacer.getAvailableCents(1L)).isEqualTo(100);
+
+        save(campaign(1L, "1.00", "36.00", CampaignStatus.OFF));
+        budgetPacer.onCampaignDeleted(new CampaignDeletedEvent(2L));
+
+        assertThat(budgetPacer.getAvailableCents(1L)).isEqualTo(-1);
+        assertThat(budgetPacer.getAvailableCents(2L)).isEqualTo(-1);
+    }
+
+    @Test
+    void admits_ShouldAcceptEverything_WhenPacingIsDisabled() {
+        budgetPacer = new BudgetPacer(matchingIndex, spendLedger, clock, false, FLIGHT_MILLIS, 60_000, 100);
+        save(campaign(1L, "1.00", "36.00", CampaignStatus.ON));
+        budgetPacer.replan();
+
+        budgetPacer.consume(1L, 100);
+
+        assertThat(budgetPacer.admits(matchingIndex.get(1L))).isTrue();
+        assertThat(budgetPacer.getAvailableCents(1L)).isEqualTo(-1);
+    }
+
+    private void save(CampaignDTO campaign) {
+        matchingIndex.upsert(campaign);
+        budgetPacer.onCampaignsSaved(new CampaignsSavedEvent(List.of(campaign)));
+    }
+
+    private static CampaignDTO campaign(Long id, String bid, String fund, CampaignStatus status) {
+        CampaignDTO dto = new CampaignDTO();
+        dto.setId(id);
+        dto.setCampaignName("Campaign " + id);
+        dto.setBidAmount(new BigDecimal(bid));
+        dto.setCampaignFund(new BigDecimal(fund));
+        dto.setStatus(status);
+        dto.setRadius(10);
+        dto.setKeywordTexts(Set.of("shoes"));
+        dto.setUpdatedAt(NOW);
+        return dto;
+    }
+}
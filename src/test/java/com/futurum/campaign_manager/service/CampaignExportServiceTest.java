@@ -0,0 +1,118 @@
+package com.futurum.campaign_manager.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import com.futurum.campaign_manager.repository.TownRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports campaigns stored in the database and checks that every campaign is written
+ * exactly once, with its town and all of its keywords.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:campaign-export",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+class CampaignExportServiceTest {
+
+    private static final int CAMPAIGNS = 120;
+
+    @Autowired
+    private CampaignExportService campaignExportService;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private TownRepository townRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Keyword first;
+    private Keyword second;
+    private Town town;
+
+    @BeforeEach
+    void setUp() {
+        List<Keyword> keywords = keywordRepository.findAll();
+        first = keywords.get(0);
+        second = keywords.get(1);
+        town = townRepository.findAll().get(0);
+        if (!campaignService.getCampaignPage(null, 1).getCampaigns().isEmpty()) {
+            return;
+        }
+        List<CampaignDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < CAMPAIGNS; i++) {
+            CampaignDTO dto = new CampaignDTO();
+            dto.setCampaignName(i == 0 ? "Shoes, \"Spring\" sale" : "Campaign " + i);
+            dto.setBidAmount(new BigDecimal("1.00"));
+            dto.setCampaignFund(new BigDecimal("5.00"));
+            dto.setStatus(CampaignStatus.ON);
+            dto.setRadius(10);
+            dto.setTownId(i % 2 == 0 ? town.getId() : null);
+            dto.setKeywordIds(i % 3 == 0 ? Set.of(first.getId(), second.getId()) : Set.of(first.getId()));
+            dtos.add(dto);
+        }
+        campaignService.saveCampaigns(dtos);
+    }
+
+    @Test
+    void export_ShouldWriteOneJsonLinePerCampaign() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = campaignExportService.export(CampaignExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(CAMPAIGNS, count);
+        assertEquals(CAMPAIGNS, lines.length);
+
+        JsonNode firstCampaign = objectMapper.readTree(lines[0]);
+        assertEquals("Shoes, \"Spring\" sale", firstCampaign.get("campaignName").asText());
+        assertEquals(town.getTownName(), firstCampaign.get("townName").asText());
+        assertEquals(2, firstCampaign.get("keywordTexts").size());
+
+        JsonNode secondCampaign = objectMapper.readTree(lines[1]);
+        assertNull(secondCampaign.get("townName"));
+        assertEquals(first.getKeywordText(), secondCampaign.get("keywordTexts").get(0).asText());
+        assertTrue(secondCampaign.get("id").asLong() > firstCampaign.get("id").asLong());
+    }
+
+    @Test
+    void export_ShouldWriteCsvWithQuotedFields() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = campaignExportService.export(CampaignExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(CAMPAIGNS, count);
+        assertEquals(CAMPAIGNS + 1, lines.length);
+        assertEquals(CampaignExportService.CSV_HEADER, lines[0]);
+        assertTrue(lines[1].contains(",\"Shoes, \"\"Spring\"\" sale\",1.00,5.00,ON,10," + town.getTownName() + ","));
+        assertTrue(lines[2].endsWith(",," + first.getKeywordText()));
+    }
+}
@@ -0,0 +1,116 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.CampaignStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CampaignGeoIndexTest {
+
+    private static final double LONDON_LAT = 51.5074;
+    private static final double LONDON_LON = -0.1278;
+    private static final double PARIS_LAT = 48.8566;
+    private static final double PARIS_LON = 2.3522;
+
+    private CampaignGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CampaignGeoIndex();
+    }
+
+    @Test
+    void distanceKm_ShouldMatchKnownDistance() {
+        assertThat(CampaignGeoIndex.distanceKm(LONDON_LAT, LONDON_LON, PARIS_LAT, PARIS_LON)).isCloseTo(344, within(2.0));
+        assertThat(CampaignGeoIndex.distanceKm(PARIS_LAT, PARIS_LON, PARIS_LAT, PARIS_LON)).isZero();
+    }
+
+    @Test
+    void covering_ShouldReturnCampaignsWhoseRadiusContainsThePoint() {
+        index.update(entry(1L, 10, CampaignStatus.ON), LONDON_LAT, LONDON_LON);
+        index.update(entry(2L, 400, CampaignStatus.ON), LONDON_LAT, LONDON_LON);
+        index.update(entry(3L, 10, CampaignStatus.ON), PARIS_LAT, PARIS_LON);
+
+        assertThat(ids(index.covering(PARIS_LAT, PARIS_LON))).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(ids(index.covering(LONDON_LAT, LONDON_LON))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.covers(1L, PARIS_LAT, PARIS_LON)).isFalse();
+        assertThat(index.covers(2L, PARIS_LAT, PARIS_LON)).isTrue();
+    }
+
+    @Test
+    void update_ShouldReplaceAndDropIneligibleOrUnlocatedCampaigns() {
+        index.update(entry(1L, 400, CampaignStatus.ON), LONDON_LAT, LONDON_LON);
+        index.update(entry(1L, 10, CampaignStatus.ON), LONDON_LAT, LONDON_LON);
+        assertThat(index.covering(PARIS_LAT, PARIS_LON)).isEmpty();
+
+        index.update(entry(1L, 10, CampaignStatus.OFF), LONDON_LAT, LONDON_LON);
+        index.update(entry(2L, 10, CampaignStatus.ON), null, null);
+        assertThat(index.size()).isZero();
+        assertThat(index.covering(LONDON_LAT, LONDON_LON)).isEmpty();
+    }
+
+    @Test
+    void covering_ShouldHandleWideRadiusAndAntimeridian() {
+        index.update(entry(1L, 3_000, CampaignStatus.ON), LONDON_LAT, LONDON_LON);
+        index.update(entry(2L, 100, CampaignStatus.ON), 0.0, 179.9);
+        index.update(entry(3L, 100, CampaignStatus.ON), 89.9, 0.0);
+
+        assertThat(ids(index.covering(PARIS_LAT, PARIS_LON))).containsExactly(1L);
+        assertThat(ids(index.covering(0, -179.9))).containsExactly(2L);
+        assertThat(ids(index.covering(89.5, 180))).containsExactly(3L);
+
+        index.remove(1L);
+        assertThat(index.covering(PARIS_LAT, PARIS_LON)).isEmpty();
+    }
+
+    @Test
+    void within_ShouldReturnCentersByDistance() {
+        index.update(entry(1L, 10, CampaignStatus.ON), PARIS_LAT, PARIS_LON);
+        index.update(entry(2L, 10, CampaignStatus.ON), LONDON_LAT, LONDON_LON);
+        index.update(entry(3L, 10, CampaignStatus.ON), 40.7128, -74.006);
+
+        List<CampaignGeoIndex.Hit> hits = index.within(LONDON_LAT, LONDON_LON, 500);
+
+        assertThat(hits).extracting(hit -> hit.area().id()).containsExactly(2L, 1L);
+        assertThat(hits.get(1).distanceKm()).isCloseTo(344, within(2.0));
+        assertThat(index.within(LONDON_LAT, LONDON_LON, 20_000)).hasSize(3);
+    }
+
+    @Test
+    void covering_ShouldAgreeWithExhaustiveScan() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double[][] centers = new double[300][];
+        for (int i = 0; i < centers.length; i++) {
+            centers[i] = new double[]{random.nextDouble(-80, 80), random.nextDouble(-180, 180), random.nextInt(1, 3_000)};
+            index.update(entry(i, (int) centers[i][2], CampaignStatus.ON), centers[i][0], centers[i][1]);
+        }
+
+        for (int query = 0; query < 200; query++) {
+            double lat = random.nextDouble(-80, 80);
+            double lon = random.nextDouble(-180, 180);
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < centers.length; i++) {
+                if (CampaignGeoIndex.distanceKm(centers[i][0], centers[i][1], lat, lon) <= centers[i][2]) {
+                    expected.add((long) i);
+                }
+            }
+            assertThat(ids(index.covering(lat, lon))).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static CampaignMatchingIndex.Entry entry(long id, int radius, CampaignStatus status) {
+        return new CampaignMatchingIndex.Entry(id, "Campaign " + id, 100, 10_000, status,
+                1L, "Town", Double.NaN, Double.NaN, radius, Set.of("shoes"), null);
+    }
+
+    private static List<Long> ids(List<CampaignGeoIndex.Area> areas) {
+        return areas.stream().map(CampaignGeoIndex.Area::id).toList();
+    }
+}
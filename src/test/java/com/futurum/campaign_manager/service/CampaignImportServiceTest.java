@@ -0,0 +1,114 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignImportStatusDTO;
+import com.futurum.campaign_manager.dto.CampaignPageDTO;
+import com.futurum.campaign_manager.repository.CampaignRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Imports CSV files end to end and checks that valid rows are stored in chunks while
+ * invalid rows are reported with their line numbers.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:campaign-import",
+        "campaign-manager.import.chunk-size=7",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+class CampaignImportServiceTest {
+
+    @Autowired
+    private CampaignImportService campaignImportService;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Test
+    void startImport_ShouldImportValidRows_AndReportInvalidOnes() throws Exception {
+        StringBuilder csv = new StringBuilder("Name,Bid,Fund,Status,Town,Keywords\n");
+        for (int i = 0; i < 40; i++) {
+            csv.append("Imported ").append(i).append(",0.50,1.00,ON,London,\"shoes, fashion\"\n");
+        }
+        csv.append("Bad town,0.50,1.00,ON,Atlantis,shoes\n");          // line 42
+        csv.append("Bad keyword,0.50,1.00,ON,Paris,unicorns\n");      // line 43
+        csv.append("Bad bid,abc,1.00,ON,Paris,shoes\n");              // line 44
+        csv.append(",0.50,1.00,OFF,,shoes\n");                        // line 45
+        long before = campaignRepository.count();
+
+        CampaignImportStatusDTO status = awaitCompletion(campaignImportService.startImport("campaigns.csv",
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8))).getJobId());
+
+        assertEquals("COMPLETED", status.getStatus());
+        assertEquals(100, status.getProgressPercent());
+        assertEquals(44, status.getRowsProcessed());
+        assertEquals(40, status.getImported());
+        assertEquals(4, status.getFailed());
+        assertEquals(before + 40, campaignRepository.count());
+
+        Map<Long, String> errors = status.getErrors().stream()
+                .collect(Collectors.toMap(CampaignImportStatusDTO.LineError::line, CampaignImportStatusDTO.LineError::message));
+        assertEquals("Town not found: Atlantis", errors.get(42L));
+        assertEquals("Keyword not found: unicorns", errors.get(43L));
+        assertEquals("Invalid bid amount: abc", errors.get(44L));
+        assertEquals("Campaign name is mandatory", errors.get(45L));
+
+        List<CampaignDTO> imported = new ArrayList<>();
+        String cursor = null;
+        do {
+            CampaignPageDTO page = campaignService.getCampaignPage(cursor, 100);
+            page.getCampaigns().stream()
+                    .filter(c -> c.getCampaignName().startsWith("Imported "))
+                    .forEach(imported::add);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(40, imported.size());
+        assertTrue(imported.stream().allMatch(c -> "London".equals(c.getTownName())
+                && c.getKeywordTexts().size() == 2 && c.getRadius() == 10));
+    }
+
+    @Test
+    void startImport_ShouldFailJob_WhenRequiredColumnIsMissing() throws Exception {
+        CampaignImportStatusDTO status = awaitCompletion(campaignImportService.startImport("broken.csv",
+                new ByteArrayInputStream("Name,Bid\nx,1.00\n".getBytes(StandardCharsets.UTF_8))).getJobId());
+
+        assertEquals("FAILED", status.getStatus());
+        assertEquals("Missing CSV column: fund", status.getMessage());
+    }
+
+    @Test
+    void startImport_ShouldRejectEmptyFile() {
+        assertThrows(IllegalArgumentException.class,
+                () -> campaignImportService.startImport("empty.csv", new ByteArrayInputStream(new byte[0])));
+    }
+
+    private CampaignImportStatusDTO awaitCompletion(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            CampaignImportStatusDTO status = campaignImportService.getImportStatus(jobId).orElseThrow();
+            if (status.getFinishedAt() != null) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        fail("Import " + jobId + " did not finish in time");
+        return null;
+    }
+}
@@ -0,0 +1,142 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CampaignMatchingIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private CampaignMatchingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CampaignMatchingIndex();
+        index.upsert(campaign(1L, "1.00", "100.00", CampaignStatus.ON, 1L, "shoes", "fashion"));
+        index.upsert(campaign(2L, "3.00", "100.00", CampaignStatus.ON, 2L, "shoes"));
+        index.upsert(campaign(3L, "2.00", "100.00", CampaignStatus.ON, null, "shoes"));
+        index.upsert(campaign(4L, "5.00", "100.00", CampaignStatus.OFF, 1L, "shoes"));
+        index.upsert(campaign(5L, "4.00", "3.99", CampaignStatus.ON, 1L, "shoes"));
+    }
+
+    @Test
+    void match_ShouldReturnEligibleCampaignsByBidDescending() {
+        assertThat(ids(index.match("shoes", null, 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.match("shoes", null, 2))).containsExactly(2L, 3L);
+        assertThat(ids(index.match("fashion", null, 10))).containsExactly(1L);
+        assertThat(index.match("books", null, 10)).isEmpty();
+    }
+
+    @Test
+    void match_ShouldApplyLocationFilter() {
+        CampaignMatchingIndex.LocationFilter town1 = entry -> entry.townId() == null || entry.townId() == 1L;
+
+        assertThat(ids(index.match("shoes", town1, 10))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void upsert_ShouldMoveCampaignWhenBidOrStatusChanges() {
+        index.upsert(campaign(1L, "9.00", "100.00", CampaignStatus.ON, 1L, "shoes"));
+        index.upsert(campaign(2L, "3.00", "100.00", CampaignStatus.OFF, 2L, "shoes"));
+
+        assertThat(ids(index.match("shoes", null, 10))).containsExactly(1L, 3L);
+        assertThat(index.match("fashion", null, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    void upsert_ShouldIgnoreOlderState() {
+        CampaignDTO stale = campaign(2L, "0.50", "100.00", CampaignStatus.ON, 2L, "shoes");
+        stale.setUpdatedAt(NOW.minusMinutes(1));
+
+        index.upsert(stale);
+
+        assertThat(index.get(2L).bidCents()).isEqualTo(300);
+    }
+
+    @Test
+    void remove_ShouldDropCampaignFromAllKeywords() {
+        index.remove(1L);
+
+        assertThat(ids(index.match("shoes", null, 10))).containsExactly(2L, 3L);
+        assertThat(index.match("fashion", null, 10)).isEmpty();
+        assertThat(index.get(1L)).isNull();
+    }
+
+    @Test
+    void upsert_ShouldNotResurrectRemovedCampaign_WhenStateIsNotNewer() {
+        LocalDateTime deletedAt = LocalDateTime.now();
+        index.remove(1L, deletedAt);
+
+        index.upsert(campaign(1L, "1.00", "100.00", CampaignStatus.ON, 1L, "shoes"));
+        CampaignDTO sameTime = campaign(1L, "1.00", "100.00", CampaignStatus.ON, 1L, "shoes");
+        sameTime.setUpdatedAt(deletedAt);
+        index.upsert(sameTime);
+
+        assertThat(index.get(1L)).isNull();
+        assertThat(ids(index.match("shoes", null, 10))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void upsert_ShouldIndexCampaign_WhenNewerThanRemovalOrTombstoneExpired() {
+        index.remove(2L, LocalDateTime.now().minus(CampaignMatchingIndex.TOMBSTONE_RETENTION).minusMinutes(1));
+        index.remove(1L, LocalDateTime.now());
+
+        CampaignDTO newer = campaign(1L, "1.00", "100.00", CampaignStatus.ON, 1L, "shoes");
+        newer.setUpdatedAt(LocalDateTime.now().plusMinutes(1));
+        index.upsert(newer);
+        index.upsert(campaign(2L, "3.00", "100.00", CampaignStatus.ON, 2L, "shoes"));
+
+        assertThat(ids(index.match("shoes", null, 10))).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void match_ShouldFillEveryLookup_WhenManyCampaignsTargetTheKeyword() {
+        CampaignMatchingIndex large = new CampaignMatchingIndex();
+        List<String> keywords = List.of("shoes", "fashion", "travel", "books", "cars");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long id = 1; id <= 20_000; id++) {
+            large.upsert(campaign(id, BigDecimal.valueOf(random.nextInt(1, 1000), 2).toPlainString(), "100.00",
+                    CampaignStatus.ON, random.nextLong(1, 16), keywords.get((int) (id % keywords.size()))));
+        }
+
+        int lookups = 1_000;
+        long matched = 0;
+        for (int i = 0; i < lookups; i++) {
+            long townId = 1 + i % 15;
+            matched += large.match(keywords.get(i % keywords.size()),
+                    entry -> entry.townId() == null || entry.townId() == townId, 10).size();
+        }
+
+        assertThat(matched).isEqualTo(lookups * 10L);
+    }
+
+    private static CampaignDTO campaign(Long id, String bid, String fund, CampaignStatus status,
+                                        Long townId, String... keywords) {
+        CampaignDTO dto = new CampaignDTO();
+        dto.setId(id);
+        dto.setCampaignName("Campaign " + id);
+        dto.setBidAmount(new BigDecimal(bid));
+        dto.setCampaignFund(new BigDecimal(fund));
+        dto.setStatus(status);
+        dto.setRadius(10);
+        dto.setTownId(townId);
+        dto.setKeywordTexts(Set.of(keywords));
+        dto.setUpdatedAt(NOW);
+        return dto;
+    }
+
+    private static List<Long> ids(List<CampaignMatchingIndex.Entry> entries) {
+        return entries.stream().map(CampaignMatchingIndex.Entry::id).toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignMatchDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import com.futurum.campaign_manager.repository.TownRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Changes campaigns through {@link CampaignService} and checks that the matching engine
+ * reflects every committed change and ignores rolled back ones.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:campaign-matching",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+class CampaignMatchingServiceTest {
+
+    @Autowired
+    private CampaignMatchingService campaignMatchingService;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private TownRepository townRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void match_ShouldFollowCreateUpdateAndDelete() {
+        Keyword keyword = keywordRepository.findByKeywordText("gaming").orElseThrow();
+        Town paris = townRepository.findByTownName("Paris").orElseThrow();
+        Town rome = townRepository.findByTownName("Rome").orElseThrow();
+
+        CampaignDTO low = campaignService.createCampaign(campaign("Low", "1.00", paris.getId(), keyword.getId()));
+        CampaignDTO high = campaignService.createCampaign(campaign("High", "2.00", rome.getId(), keyword.getId()));
+        assertEquals(List.of(high.getId(), low.getId()), ids(campaignMatchingService.match("gaming", null, null)));
+        assertEquals(List.of(low.getId()), ids(campaignMatchingService.match("gaming", paris.getId(), null)));
+
+        low.setBidAmount(new BigDecimal("3.00"));
+        campaignService.updateCampaign(low.getId(), low);
+        assertEquals(List.of(low.getId(), high.getId()), ids(campaignMatchingService.match("gaming", null, null)));
+
+        high.setStatus(CampaignStatus.OFF);
+        campaignService.updateCampaign(high.getId(), high);
+        campaignService.deleteCampaign(low.getId());
+        assertTrue(campaignMatchingService.match("gaming", null, null).isEmpty());
+    }
+
+    @Test
+    void match_ShouldServeTownsWithinCampaignRadius() {
+        Keyword keyword = keywordRepository.findByKeywordText("garden").orElseThrow();
+        Town madrid = townRepository.findByTownName("Madrid").orElseThrow();
+        Town barcelona = townRepository.findByTownName("Barcelona").orElseThrow();
+
+        // Madrid and Barcelona are about 505 km apart
+        CampaignDTO wide = campaign("Regional", "1.00", madrid.getId(), keyword.getId());
+        wide.setRadius(600);
+        CampaignDTO regional = campaignService.createCampaign(wide);
+        CampaignDTO local = campaignService.createCampaign(campaign("Local", "2.00", madrid.getId(), keyword.getId()));
+
+        assertEquals(List.of(regional.getId()), ids(campaignMatchingService.match("garden", barcelona.getId(), null)));
+        assertEquals(List.of(local.getId(), regional.getId()),
+                ids(campaignMatchingService.match("garden", madrid.getId(), null)));
+        assertEquals(List.of(regional.getId()),
+                ids(campaignMatchingService.findCovering(barcelona.getLatitude(), barcelona.getLongitude(), null)));
+
+        List<CampaignMatchDTO> near = campaignMatchingService.findNear(barcelona.getId(), 550, null).stream()
+                .filter(match -> match.getCampaignId().equals(regional.getId()) || match.getCampaignId().equals(local.getId()))
+                .toList();
+        assertEquals(2, near.size());
+        assertEquals(505, near.get(0).getDistanceKm(), 5);
+
+        regional.setRadius(100);
+        campaignService.updateCampaign(regional.getId(), regional);
+        assertTrue(campaignMatchingService.match("garden", barcelona.getId(), null).isEmpty());
+    }
+
+    @Test
+    void match_ShouldRejectUnknownTown() {
+        assertThrows(IllegalArgumentException.class, () -> campaignMatchingService.match("garden", -1L, null));
+        assertThrows(IllegalArgumentException.class, () -> campaignMatchingService.findCovering(91, 0, null));
+    }
+
+    @Test
+    void match_ShouldIgnoreRolledBackChanges() {
+        Keyword keyword = keywordRepository.findByKeywordText("books").orElseThrow();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            campaignService.createCampaign(campaign("Rolled back", "1.00", null, keyword.getId()));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(campaignMatchingService.match("books", null, null).isEmpty());
+    }
+
+    private static CampaignDTO campaign(String name, String bid, Long townId, Long keywordId) {
+        CampaignDTO dto = new CampaignDTO();
+        dto.setCampaignName(name);
+        dto.setBidAmount(new BigDecimal(bid));
+        dto.setCampaignFund(new BigDecimal("50.00"));
+        dto.setStatus(CampaignStatus.ON);
+        dto.setRadius(10);
+        dto.setTownId(townId);
+        dto.setKeywordIds(Set.of(keywordId));
+        return dto;
+    }
+
+    private static List<Long> ids(List<CampaignMatchDTO> matches) {
+        return matches.stream().map(CampaignMatchDTO::getCampaignId).toList();
+    }
+}
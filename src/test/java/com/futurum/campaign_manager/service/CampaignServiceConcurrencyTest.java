@@ -0,0 +1,136 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.Campaign;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import com.futurum.campaign_manager.repository.AccountRepository;
+import com.futurum.campaign_manager.repository.CampaignRepository;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import com.futurum.campaign_manager.repository.TownRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fires thousands of concurrent campaign creates and updates at {@link CampaignService}
+ * and checks that no money is created or lost: the account balance plus the sum of all
+ * campaign funds must stay constant, and the balance must never go negative.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:campaign-concurrency",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+class CampaignServiceConcurrencyTest {
+
+    private static final String ACCOUNT = "Emerald Account";
+    private static final int THREADS = 16;
+    private static final int OPERATIONS = 4000;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private FundLedger fundLedger;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private TownRepository townRepository;
+
+    @Test
+    void concurrentCreatesAndUpdates_ShouldPreserveTotalFunds() throws InterruptedException {
+        List<Long> keywordIds = keywordRepository.findAll().stream().map(Keyword::getId).toList();
+        List<Long> townIds = townRepository.findAll().stream().map(Town::getId).toList();
+        BigDecimal totalBefore = totalFunds();
+
+        List<Long> campaignIds = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            campaignIds.add(campaignService.createCampaign(randomCampaign(keywordIds, townIds)).getId());
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            boolean create = i % 2 == 0;
+            executor.submit(() -> {
+                try {
+                    CampaignDTO dto = randomCampaign(keywordIds, townIds);
+                    if (create) {
+                        campaignIds.add(campaignService.createCampaign(dto).getId());
+                    } else {
+                        Long id = campaignIds.get(ThreadLocalRandom.current().nextInt(campaignIds.size()));
+                        campaignService.updateCampaign(id, dto);
+                    }
+                    succeeded.incrementAndGet();
+                } catch (RuntimeException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+        long elapsedNanos = System.nanoTime() - start;
+
+        System.out.printf("Concurrent campaign writes: %d ops (%d ok, %d rejected) on %d threads in %d ms, %.0f ops/s%n",
+                OPERATIONS, succeeded.get(), rejected.get(), THREADS, elapsedNanos / 1_000_000,
+                OPERATIONS / (elapsedNanos / 1_000_000_000.0));
+
+        assertEquals(OPERATIONS, succeeded.get() + rejected.get());
+        assertEquals(0, totalBefore.compareTo(totalFunds()),
+                "Account balance plus campaign funds must not change");
+        assertTrue(accountBalance().signum() >= 0, "Account balance must never go negative");
+    }
+
+    private CampaignDTO randomCampaign(List<Long> keywordIds, List<Long> townIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        CampaignDTO dto = new CampaignDTO();
+        dto.setCampaignName("Load " + random.nextInt(1_000_000));
+        dto.setBidAmount(new BigDecimal("0.50"));
+        dto.setCampaignFund(BigDecimal.valueOf(random.nextInt(1, 1000), 2));
+        dto.setStatus(CampaignStatus.ON);
+        dto.setRadius(10);
+        dto.setTownId(townIds.get(random.nextInt(townIds.size())));
+        dto.setKeywordIds(Set.of(keywordIds.get(random.nextInt(keywordIds.size()))));
+        return dto;
+    }
+
+    private BigDecimal totalFunds() {
+        BigDecimal campaignFunds = new ArrayList<>(campaignRepository.findAll()).stream()
+                .map(Campaign::getCampaignFund)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return accountBalance().add(campaignFunds);
+    }
+
+    private BigDecimal accountBalance() {
+        fundLedger.flush();
+        return accountRepository.findByAccountName(ACCOUNT).orElseThrow().getBalance();
+    }
+}
@@ -0,0 +1,129 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignBulkResultDTO;
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignPageDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.Town;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import com.futurum.campaign_manager.repository.TownRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards against N+1 loading in campaign listings: the number of JDBC statements
+ * must not depend on the number of campaigns returned. Also checks that bulk saves
+ * are written with JDBC batches.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:campaign-query-count",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@ActiveProfiles("test")
+class CampaignServiceQueryCountTest {
+
+    private static final int CAMPAIGNS = 30;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private TownRepository townRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (campaignService.getCampaignPage(null, CAMPAIGNS).getCampaigns().size() >= CAMPAIGNS) {
+            return;
+        }
+        List<Keyword> keywords = keywordRepository.findAll();
+        List<Town> towns = townRepository.findAll();
+        for (int i = 0; i < CAMPAIGNS; i++) {
+            CampaignDTO dto = new CampaignDTO();
+            dto.setCampaignName("Campaign " + i);
+            dto.setBidAmount(new BigDecimal("1.00"));
+            dto.setCampaignFund(new BigDecimal("10.00"));
+            dto.setStatus(CampaignStatus.ON);
+            dto.setRadius(5);
+            dto.setTownId(towns.get(i % towns.size()).getId());
+            dto.setKeywordIds(Set.of(keywords.get(i % keywords.size()).getId(),
+                    keywords.get((i + 1) % keywords.size()).getId()));
+            campaignService.createCampaign(dto);
+        }
+    }
+
+    @Test
+    void getCampaignPage_ShouldUseConstantNumberOfStatements() {
+        statistics.clear();
+
+        CampaignPageDTO page = campaignService.getCampaignPage(null, CAMPAIGNS);
+
+        assertEquals(CAMPAIGNS, page.getCampaigns().size());
+        assertTrue(page.getCampaigns().stream().allMatch(c -> c.getTownName() != null && c.getKeywordTexts().size() == 2));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getCampaignById_ShouldUseSingleStatement() {
+        Long id = campaignService.getCampaignPage(null, 1).getCampaigns().get(0).getId();
+        statistics.clear();
+
+        CampaignDTO campaign = campaignService.getCampaignById(id).orElseThrow();
+
+        assertEquals(2, campaign.getKeywordIds().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void saveCampaigns_ShouldInsertInJdbcBatches() {
+        List<Keyword> keywords = keywordRepository.findAll();
+        List<Town> towns = townRepository.findAll();
+        List<CampaignDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            CampaignDTO dto = new CampaignDTO();
+            dto.setCampaignName("Bulk " + i);
+            dto.setBidAmount(new BigDecimal("0.10"));
+            dto.setCampaignFund(new BigDecimal("0.50"));
+            dto.setStatus(CampaignStatus.ON);
+            dto.setRadius(5);
+            dto.setTownId(towns.get(i % towns.size()).getId());
+            dto.setKeywordIds(Set.of(keywords.get(i % keywords.size()).getId(),
+                    keywords.get((i + 1) % keywords.size()).getId()));
+            dtos.add(dto);
+        }
+        statistics.clear();
+
+        List<CampaignBulkResultDTO> results = campaignService.saveCampaigns(dtos);
+
+        assertTrue(results.stream().allMatch(CampaignBulkResultDTO::isSuccess));
+        assertEquals(200, results.stream().map(result -> result.getCampaign().getId()).distinct().count());
+        // 600 rows (campaigns and keyword links) go out as a handful of batches plus a few sequence calls
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+                "Expected batched inserts but got " + statistics.getPrepareStatementCount() + " statements");
+    }
+}
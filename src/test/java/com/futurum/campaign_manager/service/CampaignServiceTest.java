@@ -1,6 +1,8 @@
 package com.futurum.campaign_manager.service;
 
+import com.futurum.campaign_manager.dto.CampaignBulkResultDTO;
 import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignPageDTO;
 import com.futurum.campaign_manager.model.Campaign;
 import com.futurum.campaign_manager.model.CampaignStatus;
 import com.futurum.campaign_manager.model.Keyword;
@@ -8,19 +10,29 @@ import com.futurum.campaign_manager.model.Town;
 import com.futurum.campaign_manager.repository.CampaignRepository;
 import com.futurum.campaign_manager.repository.KeywordRepository;
 import com.futurum.campaign_manager.repository.TownRepository;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +50,18 @@ class CampaignServiceTest {
     @Mock
     private AccountService accountService;
 
+    @Mock
+    private ReferenceDataSnapshot referenceDataSnapshot;
+
+    @Mock
+    private CampaignSpendLedger spendLedger;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CampaignService campaignService;
 
@@ -52,14 +76,169 @@ class CampaignServiceTest {
         dto.setKeywordIds(Set.of(1L));
         dto.setTownId(1L);
 
-        when(accountService.hasEnoughFunds(anyString(), any())).thenReturn(true);
-        when(townRepository.findById(anyLong())).thenReturn(Optional.of(new Town()));
-        when(keywordRepository.findById(anyLong())).thenReturn(Optional.of(new Keyword()));
+        when(accountService.reserveFunds(anyString(), any())).thenReturn(true);
+        when(referenceDataSnapshot.findTown(1L)).thenReturn(new Town());
+        when(referenceDataSnapshot.findKeyword(1L)).thenReturn(new Keyword(1L, "java"));
         when(campaignRepository.save(any())).thenReturn(new Campaign());
 
         CampaignDTO result = campaignService.createCampaign(dto);
 
         assertNotNull(result);
         verify(campaignRepository).save(any());
+        verify(accountService).reserveFunds("Emerald Account", new BigDecimal("100.00"));
+        verify(eventPublisher).publishEvent(any(CampaignsSavedEvent.class));
+        verifyNoInteractions(keywordRepository, townRepository);
+    }
+
+    @Test
+    void deleteCampaign_ShouldReturnFunds_AndPublishEvent() {
+        Campaign campaign = campaign(4L);
+        campaign.setCampaignFund(new BigDecimal("25.00"));
+        when(campaignRepository.findByIdForUpdate(4L)).thenReturn(Optional.of(campaign));
+
+        campaignService.deleteCampaign(4L);
+
+        verify(accountService).addFunds("Emerald Account", new BigDecimal("25.00"));
+        verify(campaignRepository).delete(campaign);
+        verify(eventPublisher).publishEvent(new CampaignDeletedEvent(4L));
+    }
+
+    @Test
+    void createCampaign_ShouldLoadMissingReferencesInOneBatch() {
+        CampaignDTO dto = campaignDTO(Set.of(1L, 2L, 3L), 1L);
+
+        when(accountService.reserveFunds(anyString(), any())).thenReturn(true);
+        when(referenceDataSnapshot.findKeyword(anyLong()))
+                .thenAnswer(invocation -> invocation.getArgument(0).equals(1L) ? new Keyword(1L, "java") : null);
+        when(keywordRepository.findAllById(any())).thenReturn(List.of(new Keyword(2L, "spring"), new Keyword(3L, "jpa")));
+        when(townRepository.findById(1L)).thenReturn(Optional.of(new Town("Warszawa")));
+        when(campaignRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CampaignDTO result = campaignService.createCampaign(dto);
+
+        assertEquals(Set.of("java", "spring", "jpa"), result.getKeywordTexts());
+        assertEquals("Warszawa", result.getTownName());
+        verify(keywordRepository).findAllById(argThat(ids -> Set.copyOf((List<Long>) ids).equals(Set.of(2L, 3L))));
+        verify(keywordRepository, never()).findById(anyLong());
+        verify(referenceDataSnapshot).addKeywords(any());
+        verify(referenceDataSnapshot).addTowns(any());
+    }
+
+    @Test
+    void createCampaign_ShouldFail_WhenKeywordDoesNotExist() {
+        CampaignDTO dto = campaignDTO(Set.of(9L), null);
+
+        when(accountService.reserveFunds(anyString(), any())).thenReturn(true);
+        when(keywordRepository.findAllById(any())).thenReturn(List.of());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> campaignService.createCampaign(dto));
+        assertEquals("Keyword not found: 9", e.getMessage());
+        verify(campaignRepository, never()).save(any());
+    }
+
+    @Test
+    void createCampaign_ShouldFail_WhenFundsCannotBeReserved() {
+        CampaignDTO dto = new CampaignDTO();
+        dto.setCampaignFund(new BigDecimal("100.00"));
+
+        when(accountService.reserveFunds(anyString(), any())).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> campaignService.createCampaign(dto));
+        verify(campaignRepository, never()).save(any());
+    }
+
+    @Test
+    void getCampaignPage_ShouldReturnCursorPastLastCampaign_WhenMoreRowsExist() {
+        when(campaignRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(campaign(1L), campaign(2L), campaign(3L)));
+
+        CampaignPageDTO page = campaignService.getCampaignPage(null, 2);
+
+        assertEquals(2, page.getCampaigns().size());
+        assertEquals(2L, CampaignService.decodeCursor(page.getNextCursor()));
+    }
+
+    @Test
+    void getCampaignPage_ShouldContinueFromCursor_AndEndWithoutCursor() {
+        String cursor = CampaignService.encodeCursor(2L);
+        when(campaignRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(3)))
+                .thenReturn(List.of(campaign(3L)));
+
+        CampaignPageDTO page = campaignService.getCampaignPage(cursor, 2);
+
+        assertEquals(1, page.getCampaigns().size());
+        assertEquals(3L, page.getCampaigns().get(0).getId());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getCampaignPage_ShouldRejectInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> campaignService.getCampaignPage("not a cursor", null));
+    }
+
+    @Test
+    void saveCampaigns_ShouldReserveNetFundChangeOnce_AndReportRejectedItems() {
+        Campaign existing = campaign(5L);
+        existing.setCampaignFund(new BigDecimal("50.00"));
+        CampaignDTO create = campaignDTO(Set.of(1L), null);
+        CampaignDTO update = campaignDTO(Set.of(1L), null);
+        update.setId(5L);
+        update.setCampaignFund(new BigDecimal("80.00"));
+        CampaignDTO unknownTown = campaignDTO(Set.of(1L), 9L);
+        CampaignDTO unknownCampaign = campaignDTO(Set.of(1L), null);
+        unknownCampaign.setId(6L);
+
+        when(referenceDataSnapshot.findKeyword(1L)).thenReturn(new Keyword(1L, "java"));
+        when(townRepository.findAllById(any())).thenReturn(List.of());
+        when(campaignRepository.findAllByIdForUpdate(any())).thenReturn(List.of(existing));
+        when(accountService.reserveFunds(anyString(), any())).thenReturn(true);
+        when(campaignRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<CampaignBulkResultDTO> results = campaignService.saveCampaigns(List.of(create, update, unknownTown, unknownCampaign));
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(5L, results.get(1).getCampaign().getId());
+        assertEquals(0, new BigDecimal("80.00").compareTo(results.get(1).getCampaign().getCampaignFund()));
+        assertEquals("Town not found", results.get(2).getError());
+        assertEquals("Campaign not found", results.get(3).getError());
+        // 100.00 for the new campaign plus 30.00 for the increased one
+        verify(accountService).reserveFunds("Emerald Account", new BigDecimal("130.00"));
+        verify(campaignRepository).saveAll(argThat(campaigns -> ((List<Campaign>) campaigns).size() == 2));
+    }
+
+    @Test
+    void saveCampaigns_ShouldRejectWholeRequest_WhenFundsAreInsufficient() {
+        when(referenceDataSnapshot.findKeyword(1L)).thenReturn(new Keyword(1L, "java"));
+        when(accountService.reserveFunds(anyString(), any())).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> campaignService.saveCampaigns(List.of(campaignDTO(Set.of(1L), null))));
+        verify(campaignRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void saveCampaigns_ShouldFail_WhenRequestIsEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> campaignService.saveCampaigns(List.of()));
+    }
+
+    private static CampaignDTO campaignDTO(Set<Long> keywordIds, Long townId) {
+        CampaignDTO dto = new CampaignDTO();
+        dto.setCampaignName("Test");
+        dto.setBidAmount(new BigDecimal("10.00"));
+        dto.setCampaignFund(new BigDecimal("100.00"));
+        dto.setStatus(CampaignStatus.ON);
+        dto.setRadius(10);
+        dto.setKeywordIds(keywordIds);
+        dto.setTownId(townId);
+        return dto;
+    }
+
+    private static Campaign campaign(Long id) {
+        Campaign campaign = new Campaign();
+        campaign.setId(id);
+        campaign.setCampaignName("Campaign " + id);
+        return campaign;
     }
 }
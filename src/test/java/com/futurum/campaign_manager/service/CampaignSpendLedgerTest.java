@@ -0,0 +1,211 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.model.Campaign;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.repository.CampaignRepository;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Charges campaigns through {@link CampaignSpendLedger} and checks what reaches the
+ * campaigns table after a flush.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:campaign-spend",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "campaign-manager.spend.flush-interval-ms=3600000",
+        "campaign-manager.spend.max-unflushed=1000.00"
+})
+@ActiveProfiles("test")
+class CampaignSpendLedgerTest {
+
+    @Autowired
+    private CampaignSpendLedger spendLedger;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private CampaignMatchingIndex matchingIndex;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void flush_ShouldWriteAccumulatedSpendInOneUpdatePerCampaign() {
+        CampaignDTO campaign = createCampaign("1.00", "10.00");
+        CampaignMatchingIndex.Entry entry = matchingIndex.get(campaign.getId());
+
+        assertEquals(900, spendLedger.tryCharge(entry, 100));
+        assertEquals(650, spendLedger.tryCharge(entry, 250));
+        assertEquals(new BigDecimal("10.00"), fund(campaign.getId()));
+
+        spendLedger.flush();
+
+        assertEquals(new BigDecimal("6.50"), fund(campaign.getId()));
+        assertEquals(BigDecimal.ZERO.setScale(2), spendLedger.getUnflushedSpend(campaign.getId()));
+    }
+
+    @Test
+    void tryCharge_ShouldSwitchCampaignOff_WhenFundNoLongerCoversBid() {
+        CampaignDTO campaign = createCampaign("3.00", "5.00");
+        CampaignMatchingIndex.Entry entry = matchingIndex.get(campaign.getId());
+
+        assertEquals(200, spendLedger.tryCharge(entry, 300));
+        assertEquals(-1, spendLedger.tryCharge(entry, 100));
+
+        spendLedger.flush();
+
+        Campaign saved = campaignRepository.findById(campaign.getId()).orElseThrow();
+        assertEquals(CampaignStatus.OFF, saved.getStatus());
+        assertEquals(new BigDecimal("2.00"), saved.getCampaignFund());
+    }
+
+    @Test
+    void tryCharge_ShouldNeverAdmitMoreThanTheFund_UnderConcurrentCharges() throws InterruptedException {
+        CampaignDTO campaign = createCampaign("0.01", "10.00");
+        CampaignMatchingIndex.Entry entry = matchingIndex.get(campaign.getId());
+        AtomicInteger admitted = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    if (spendLedger.tryCharge(entry, 1) >= 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        spendLedger.flush();
+
+        assertEquals(1_000, admitted.get());
+        Campaign saved = campaignRepository.findById(campaign.getId()).orElseThrow();
+        assertEquals(new BigDecimal("0.00"), saved.getCampaignFund());
+        assertEquals(CampaignStatus.OFF, saved.getStatus());
+    }
+
+    @Test
+    void updateCampaign_ShouldSettleUnflushedSpendBeforeChangingFund() {
+        CampaignDTO campaign = createCampaign("1.00", "10.00");
+        spendLedger.tryCharge(matchingIndex.get(campaign.getId()), 400);
+
+        campaign.setCampaignFund(new BigDecimal("20.00"));
+        campaignService.updateCampaign(campaign.getId(), campaign);
+        spendLedger.flush();
+
+        assertEquals(new BigDecimal("20.00"), fund(campaign.getId()));
+        assertEquals(BigDecimal.ZERO.setScale(2), spendLedger.getUnflushedSpend(campaign.getId()));
+        // The counter restarts from the new fund
+        assertEquals(1_900, spendLedger.tryCharge(matchingIndex.get(campaign.getId()), 100));
+    }
+
+    @Test
+    void deleteCampaign_ShouldWaitForRunningFlush_AndRefundFundNetOfItsSpend() throws Exception {
+        CampaignDTO campaign = createCampaign("1.00", "10.00");
+        spendLedger.tryCharge(matchingIndex.get(campaign.getId()), 250);
+        BigDecimal balance = balance();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            // Another transaction holds the row, so the flush takes the spend and waits in its update
+            Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT id FROM campaigns WHERE id = ? FOR UPDATE", campaign.getId());
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            locked.await();
+            Future<?> flush = executor.submit(spendLedger::flush);
+            while (spendLedger.getUnflushedSpend(campaign.getId()).signum() != 0) {
+                Thread.onSpinWait();
+            }
+            Future<?> delete = executor.submit(() -> campaignService.deleteCampaign(campaign.getId()));
+
+            assertThrows(TimeoutException.class, () -> delete.get(200, TimeUnit.MILLISECONDS));
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+            flush.get(10, TimeUnit.SECONDS);
+            delete.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(balance.add(new BigDecimal("7.50")), balance());
+        assertFalse(campaignRepository.existsById(campaign.getId()));
+    }
+
+    @Test
+    void flush_ShouldDropSpend_WhenCampaignWasDeletedAfterCharge() {
+        CampaignDTO campaign = createCampaign("1.00", "10.00");
+        CampaignMatchingIndex.Entry entry = matchingIndex.get(campaign.getId());
+        campaignService.deleteCampaign(campaign.getId());
+
+        // An auction still holding the indexed campaign charges it after the delete
+        assertEquals(900, spendLedger.tryCharge(entry, 100));
+        spendLedger.flush();
+
+        assertEquals(-1, spendLedger.getRemainingCents(campaign.getId()));
+        assertEquals(BigDecimal.ZERO.setScale(2), spendLedger.getUnflushedSpend(campaign.getId()));
+    }
+
+    private CampaignDTO createCampaign(String bid, String fund) {
+        Keyword keyword = keywordRepository.findByKeywordText("sports").orElseThrow();
+        CampaignDTO dto = new CampaignDTO();
+        dto.setCampaignName("Spend " + System.nanoTime());
+        dto.setBidAmount(new BigDecimal(bid));
+        dto.setCampaignFund(new BigDecimal(fund));
+        dto.setStatus(CampaignStatus.ON);
+        dto.setRadius(10);
+        dto.setKeywordIds(Set.of(keyword.getId()));
+        return campaignService.createCampaign(dto);
+    }
+
+    private BigDecimal balance() {
+        return accountService.getAccountBalance("Emerald Account").getBalance();
+    }
+
+    private BigDecimal fund(Long campaignId) {
+        return campaignRepository.findById(campaignId).orElseThrow().getCampaignFund();
+    }
+}
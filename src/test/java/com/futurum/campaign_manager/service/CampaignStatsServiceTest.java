@@ -0,0 +1,133 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.CampaignStatsDTO;
+import com.futurum.campaign_manager.dto.DeliveryEventDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.DeliveryEventType;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.model.RollupGranularity;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ingests events spread over two days and reads them back at every granularity through
+ * {@link CampaignStatsService}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:campaign-stats",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "campaign-manager.events.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class CampaignStatsServiceTest {
+
+    private static final Instant DAY = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Autowired
+    private CampaignStatsService campaignStatsService;
+
+    @Autowired
+    private DeliveryEventService deliveryEventService;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private CampaignSpendLedger spendLedger;
+
+    @Autowired
+    private CampaignMatchingIndex matchingIndex;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Test
+    void getStats_ShouldServeEveryGranularityFromTheSameEvents() {
+        Long campaignId = createCampaign();
+        deliveryEventService.ingest(List.of(
+                event(DeliveryEventType.IMPRESSION, campaignId, DAY.plusSeconds(10)),
+                event(DeliveryEventType.CLICK, campaignId, DAY.plusSeconds(20)),
+                event(DeliveryEventType.IMPRESSION, campaignId, DAY.plusSeconds(90)),
+                event(DeliveryEventType.IMPRESSION, campaignId, DAY.plus(3, ChronoUnit.HOURS)),
+                event(DeliveryEventType.IMPRESSION, campaignId, DAY.plus(1, ChronoUnit.DAYS))));
+        deliveryEventService.flush();
+
+        CampaignStatsDTO minutes = campaignStatsService.getStats(campaignId, RollupGranularity.MINUTE,
+                DAY, DAY.plus(1, ChronoUnit.HOURS));
+        assertEquals(2, minutes.getBuckets().size());
+        assertEquals(2, minutes.getImpressions());
+        assertEquals(1, minutes.getClicks());
+        assertEquals(DAY.plusSeconds(60), minutes.getBuckets().get(1).getBucketStart());
+
+        CampaignStatsDTO hours = campaignStatsService.getStats(campaignId, RollupGranularity.HOUR,
+                DAY, DAY.plus(1, ChronoUnit.DAYS));
+        assertEquals(2, hours.getBuckets().size());
+        assertEquals(2, hours.getBuckets().get(0).getImpressions());
+        assertEquals(1, hours.getBuckets().get(0).getClicks());
+        assertEquals(1, hours.getBuckets().get(1).getImpressions());
+
+        CampaignStatsDTO days = campaignStatsService.getStats(campaignId, RollupGranularity.DAY,
+                DAY, DAY.plus(2, ChronoUnit.DAYS));
+        assertEquals(2, days.getBuckets().size());
+        assertEquals(4, days.getImpressions());
+        assertEquals(1, days.getClicks());
+    }
+
+    @Test
+    void getStats_ShouldIncludeChargedSpend() {
+        Long campaignId = createCampaign();
+        spendLedger.tryCharge(matchingIndex.get(campaignId), 150);
+        spendLedger.tryCharge(matchingIndex.get(campaignId), 25);
+        deliveryEventService.flush();
+
+        CampaignStatsDTO stats = campaignStatsService.getStats(campaignId, RollupGranularity.DAY,
+                null, Instant.now().plus(1, ChronoUnit.DAYS));
+
+        assertEquals(new BigDecimal("1.75"), stats.getSpend());
+        assertEquals(0, stats.getImpressions());
+    }
+
+    @Test
+    void getStats_ShouldRejectRangesTooLongForTheGranularity() {
+        Long campaignId = createCampaign();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> campaignStatsService.getStats(
+                campaignId, RollupGranularity.MINUTE, DAY, DAY.plus(2, ChronoUnit.DAYS)));
+
+        assertEquals("At most 1440 minute buckets can be requested, use a coarser granularity", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> campaignStatsService.getStats(
+                campaignId, RollupGranularity.HOUR, DAY.plus(1, ChronoUnit.DAYS), DAY));
+        assertThrows(IllegalArgumentException.class, () -> campaignStatsService.getStats(
+                999_999L, RollupGranularity.HOUR, null, null));
+    }
+
+    private Long createCampaign() {
+        Keyword keyword = keywordRepository.findByKeywordText("sports").orElseThrow();
+        CampaignDTO dto = new CampaignDTO();
+        dto.setCampaignName("Stats " + System.nanoTime());
+        dto.setBidAmount(new BigDecimal("1.00"));
+        dto.setCampaignFund(new BigDecimal("10.00"));
+        dto.setStatus(CampaignStatus.ON);
+        dto.setRadius(10);
+        dto.setKeywordIds(Set.of(keyword.getId()));
+        return campaignService.createCampaign(dto).getId();
+    }
+
+    private static DeliveryEventDTO event(DeliveryEventType type, Long campaignId, Instant timestamp) {
+        return new DeliveryEventDTO(type, campaignId, timestamp);
+    }
+}
@@ -0,0 +1,44 @@
+package com.futurum.campaign_manager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void readRecord_ShouldSplitPlainAndQuotedFields() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "name,keywords\r\n\"Shoes, \"\"Spring\"\" sale\",\"shoes, fashion\"\nplain,books"));
+
+        assertEquals(List.of("name", "keywords"), reader.readRecord());
+        assertEquals(List.of("Shoes, \"Spring\" sale", "shoes, fashion"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertEquals(List.of("plain", "books"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void readRecord_ShouldKeepLineBreaksInsideQuotes_AndCountLines() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\uFEFFa,\"multi\nline\"\n,\nlast"));
+
+        assertEquals(List.of("a", "multi\nline"), reader.readRecord());
+        assertEquals(List.of("", ""), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertEquals(List.of("last"), reader.readRecord());
+        assertEquals(4, reader.getRecordLineNumber());
+    }
+
+    @Test
+    void readRecord_ShouldFail_WhenQuoteIsNotClosed() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("ok\n\"broken,field\n"));
+
+        reader.readRecord();
+        assertThrows(IllegalArgumentException.class, reader::readRecord);
+    }
+}
@@ -0,0 +1,61 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.DeliveryEventDTO;
+import com.futurum.campaign_manager.model.DeliveryEventType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeliveryEventBufferTest {
+
+    private final DeliveryEventBuffer buffer = new DeliveryEventBuffer(4);
+    private final List<String> drained = new ArrayList<>();
+
+    @Test
+    void drainTo_ShouldReturnEventsInOrderAcrossTheEndOfTheRing() {
+        assertThat(buffer.offerAll(List.of(impression(1), impression(2), click(3)), 0)).isTrue();
+        assertThat(buffer.drainTo(this::record, 2)).isEqualTo(2);
+
+        assertThat(buffer.offerAll(List.of(impression(4), click(5), impression(6)), 0)).isTrue();
+        assertThat(buffer.drainTo(this::record, 10)).isEqualTo(4);
+
+        assertThat(drained).containsExactly("1:0", "2:0", "3:1", "4:0", "5:1", "6:0");
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void offerAll_ShouldRejectWholeBatch_WhenItDoesNotFit() {
+        assertThat(buffer.offerAll(List.of(impression(1), impression(2), impression(3)), 0)).isTrue();
+
+        assertThat(buffer.offerAll(List.of(click(4), click(5)), 0)).isFalse();
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.offerAll(List.of(click(4)), 0)).isTrue();
+    }
+
+    @Test
+    void offerAll_ShouldUseDefaultTimestamp_WhenEventHasNone() {
+        buffer.offerAll(List.of(new DeliveryEventDTO(DeliveryEventType.CLICK, 7L, null),
+                new DeliveryEventDTO(DeliveryEventType.CLICK, 8L, Instant.ofEpochMilli(5_000))), 1_000);
+
+        List<Long> timestamps = new ArrayList<>();
+        buffer.drainTo((campaignId, type, millis) -> timestamps.add(millis), 10);
+
+        assertThat(timestamps).containsExactly(1_000L, 5_000L);
+    }
+
+    private void record(long campaignId, int type, long millis) {
+        drained.add(campaignId + ":" + type);
+    }
+
+    private static DeliveryEventDTO impression(long campaignId) {
+        return new DeliveryEventDTO(DeliveryEventType.IMPRESSION, campaignId, Instant.EPOCH);
+    }
+
+    private static DeliveryEventDTO click(long campaignId) {
+        return new DeliveryEventDTO(DeliveryEventType.CLICK, campaignId, Instant.EPOCH);
+    }
+}
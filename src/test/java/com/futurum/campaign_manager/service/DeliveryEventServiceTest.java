@@ -0,0 +1,185 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.dto.CampaignDTO;
+import com.futurum.campaign_manager.dto.DeliveryEventDTO;
+import com.futurum.campaign_manager.model.CampaignStatus;
+import com.futurum.campaign_manager.model.DeliveryEventType;
+import com.futurum.campaign_manager.model.Keyword;
+import com.futurum.campaign_manager.repository.KeywordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ingests events through {@link DeliveryEventService} and checks the rollups written to the
+ * database.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:delivery-events",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "campaign-manager.events.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class DeliveryEventServiceTest {
+
+    private static final Instant MINUTE = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Autowired
+    private DeliveryEventService deliveryEventService;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private KeywordRepository keywordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CampaignMatchingIndex matchingIndex;
+
+    @Autowired
+    private CampaignSpendLedger spendLedger;
+
+    @Test
+    void flush_ShouldAddEventsToRollupOfTheirMinute() {
+        Long campaignId = createCampaign();
+
+        deliveryEventService.ingest(List.of(
+                event(DeliveryEventType.IMPRESSION, campaignId, MINUTE),
+                event(DeliveryEventType.IMPRESSION, campaignId, MINUTE.plusSeconds(59)),
+                event(DeliveryEventType.CLICK, campaignId, MINUTE.plusSeconds(30)),
+                event(DeliveryEventType.IMPRESSION, campaignId, MINUTE.plusSeconds(60))));
+        deliveryEventService.flush();
+        deliveryEventService.ingest(List.of(event(DeliveryEventType.CLICK, campaignId, MINUTE.plusSeconds(10))));
+        deliveryEventService.flush();
+
+        List<Map<String, Object>> rollups = rollups(campaignId);
+        assertEquals(2, rollups.size());
+        assertEquals(2L, rollups.get(0).get("IMPRESSIONS"));
+        assertEquals(2L, rollups.get(0).get("CLICKS"));
+        assertEquals(1L, rollups.get(1).get("IMPRESSIONS"));
+        assertEquals(0L, rollups.get(1).get("CLICKS"));
+    }
+
+    @Test
+    void ingest_ShouldRejectWholeRequest_WhenCampaignIsUnknown() {
+        Long campaignId = createCampaign();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> deliveryEventService.ingest(List.of(
+                event(DeliveryEventType.IMPRESSION, campaignId, MINUTE),
+                event(DeliveryEventType.IMPRESSION, 999_999L, MINUTE))));
+        deliveryEventService.flush();
+
+        assertEquals("Campaign not found: 999999", e.getMessage());
+        assertTrue(rollups(campaignId).isEmpty());
+    }
+
+    @Test
+    void ingest_ShouldCountEventsFromConcurrentRequestsInFewRows() throws InterruptedException {
+        Long campaignId = createCampaign();
+        List<DeliveryEventDTO> request = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            request.add(event(i % 10 == 0 ? DeliveryEventType.CLICK : DeliveryEventType.IMPRESSION,
+                    campaignId, MINUTE.plusSeconds(i % 180)));
+        }
+
+        int requests = 400;
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            producers[p] = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < requests / producers.length; i++) {
+                    while (true) {
+                        try {
+                            deliveryEventService.ingest(request);
+                            break;
+                        } catch (EventBufferFullException e) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }
+            });
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        deliveryEventService.flush();
+
+        List<Map<String, Object>> rollups = rollups(campaignId);
+        assertEquals(3, rollups.size());
+        long impressions = rollups.stream().mapToLong(row -> (Long) row.get("IMPRESSIONS")).sum();
+        long clicks = rollups.stream().mapToLong(row -> (Long) row.get("CLICKS")).sum();
+        assertEquals(360_000, impressions);
+        assertEquals(40_000, clicks);
+    }
+
+    @Test
+    void consumeBatch_ShouldBackOffExponentially_WhileWritesFail() {
+        Long campaignId = createCampaign();
+        AtomicInteger failures = new AtomicInteger(3);
+        JdbcTemplate failingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (failures.getAndDecrement() > 0) {
+                    throw new DataAccessResourceFailureException("Database unavailable");
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        MutableClock clock = new MutableClock(MINUTE);
+        DeliveryEventService service = new DeliveryEventService(matchingIndex, spendLedger, failingJdbcTemplate,
+                transactionTemplate, clock, 1_024, 1_024, 1_024, 1_000, 100, 250, false);
+        service.ingest(List.of(event(DeliveryEventType.IMPRESSION, campaignId, MINUTE)));
+
+        List<Long> delays = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            clock.advance(Duration.ofSeconds(1));
+            delays.add(service.consumeBatch());
+        }
+
+        assertEquals(List.of(100L, 200L, 250L, 0L), delays);
+        assertEquals(1L, rollups(campaignId).get(0).get("IMPRESSIONS"));
+    }
+
+    private List<Map<String, Object>> rollups(Long campaignId) {
+        return jdbcTemplate.queryForList("SELECT impressions, clicks FROM campaign_event_rollups "
+                + "WHERE campaign_id = ? AND granularity = 'MINUTE' ORDER BY bucket_start", campaignId);
+    }
+
+    private Long createCampaign() {
+        Keyword keyword = keywordRepository.findByKeywordText("sports").orElseThrow();
+        CampaignDTO dto = new CampaignDTO();
+        dto.setCampaignName("Events " + System.nanoTime());
+        dto.setBidAmount(new BigDecimal("1.00"));
+        dto.setCampaignFund(new BigDecimal("10.00"));
+        dto.setStatus(CampaignStatus.ON);
+        dto.setRadius(10);
+        dto.setKeywordIds(Set.of(keyword.getId()));
+        return campaignService.createCampaign(dto).getId();
+    }
+
+    private static DeliveryEventDTO event(DeliveryEventType type, Long campaignId, Instant timestamp) {
+        return new DeliveryEventDTO(type, campaignId, timestamp);
+    }
+}
@@ -0,0 +1,183 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.Account;
+import com.futurum.campaign_manager.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FundLedgerTest {
+
+    private static final String ACCOUNT = "Emerald Account";
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private FundLedger fundLedger;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(accountRepository.findByAccountName(ACCOUNT))
+                .thenReturn(Optional.of(new Account(ACCOUNT, new BigDecimal("100.00"))));
+    }
+
+    @Test
+    void tryDebit_ShouldAdmitDebit_WhenBalanceCoversAmount() {
+        assertTrue(fundLedger.tryDebit(ACCOUNT, new BigDecimal("60.00")));
+
+        assertFalse(fundLedger.hasEnoughFunds(ACCOUNT, new BigDecimal("40.01")));
+        assertEquals(new BigDecimal("-60.00"), fundLedger.getPendingDelta(ACCOUNT));
+    }
+
+    @Test
+    void tryDebit_ShouldRejectDebit_WhenBalanceIsInsufficient() {
+        assertFalse(fundLedger.tryDebit(ACCOUNT, new BigDecimal("100.01")));
+
+        assertTrue(fundLedger.hasEnoughFunds(ACCOUNT, new BigDecimal("100.00")));
+        assertEquals(new BigDecimal("0.00"), fundLedger.getPendingDelta(ACCOUNT));
+    }
+
+    @Test
+    void flush_ShouldWriteAccumulatedDeltaInOneUpdate() {
+        when(accountRepository.applyBalanceDelta(eq(ACCOUNT), any(), any())).thenReturn(1);
+
+        fundLedger.tryDebit(ACCOUNT, new BigDecimal("30.00"));
+        fundLedger.credit(ACCOUNT, new BigDecimal("5.50"));
+        fundLedger.tryDebit(ACCOUNT, new BigDecimal("0.50"));
+        fundLedger.flush();
+        fundLedger.flush();
+
+        verify(accountRepository, times(1)).applyBalanceDelta(eq(ACCOUNT), eq(new BigDecimal("-25.00")), any());
+        verify(accountRepository, times(1)).findByAccountName(ACCOUNT);
+        assertEquals(new BigDecimal("0.00"), fundLedger.getPendingDelta(ACCOUNT));
+    }
+
+    @Test
+    void flush_ShouldKeepDelta_WhenUpdateFails() {
+        when(accountRepository.applyBalanceDelta(eq(ACCOUNT), any(), any()))
+                .thenThrow(new RuntimeException("Database unavailable"));
+
+        fundLedger.tryDebit(ACCOUNT, new BigDecimal("10.00"));
+        fundLedger.flush();
+
+        assertEquals(new BigDecimal("-10.00"), fundLedger.getPendingDelta(ACCOUNT));
+    }
+
+    @Test
+    void tryDebit_ShouldNeverOverdraw_UnderConcurrentDebits() throws InterruptedException {
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                if (fundLedger.tryDebit(ACCOUNT, new BigDecimal("0.30"))) {
+                    admitted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(333, admitted.get());
+        assertEquals(new BigDecimal("-99.90"), fundLedger.getPendingDelta(ACCOUNT));
+    }
+
+    @Test
+    void getCommittedBalance_ShouldChange_OnlyWhenTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(fundLedger.tryDebit(ACCOUNT, new BigDecimal("60.00")));
+            fundLedger.credit(ACCOUNT, new BigDecimal("5.00"));
+
+            assertEquals(new BigDecimal("100.00"), fundLedger.getCommittedBalance(ACCOUNT));
+            assertEquals(new BigDecimal("45.00"), fundLedger.getAvailableBalance(ACCOUNT));
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(new BigDecimal("45.00"), fundLedger.getCommittedBalance(ACCOUNT));
+        assertEquals(new BigDecimal("-55.00"), fundLedger.getPendingDelta(ACCOUNT));
+    }
+
+    @Test
+    void getCommittedBalance_ShouldIgnoreDebit_WhenTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(fundLedger.tryDebit(ACCOUNT, new BigDecimal("60.00")));
+
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(new BigDecimal("100.00"), fundLedger.getCommittedBalance(ACCOUNT));
+        assertEquals(new BigDecimal("100.00"), fundLedger.getAvailableBalance(ACCOUNT));
+        assertEquals(new BigDecimal("0.00"), fundLedger.getPendingDelta(ACCOUNT));
+    }
+
+    @Test
+    void getCommittedBalance_ShouldReadDatabaseOnce() {
+        fundLedger.getCommittedBalance(ACCOUNT);
+        fundLedger.tryDebit(ACCOUNT, new BigDecimal("10.00"));
+
+        assertEquals(new BigDecimal("90.00"), fundLedger.getCommittedBalance(ACCOUNT));
+        verify(accountRepository, times(1)).findByAccountName(ACCOUNT);
+    }
+
+    @Test
+    void reconcile_ShouldKeepBalance_WhenDatabaseAndPendingDeltaAddUp() {
+        fundLedger.tryDebit(ACCOUNT, new BigDecimal("10.00"));
+
+        fundLedger.reconcile();
+
+        assertEquals(new BigDecimal("90.00"), fundLedger.getCommittedBalance(ACCOUNT));
+        assertTrue(fundLedger.hasEnoughFunds(ACCOUNT, new BigDecimal("90.00")));
+        assertFalse(fundLedger.hasEnoughFunds(ACCOUNT, new BigDecimal("90.01")));
+    }
+
+    @Test
+    void reconcile_ShouldAdoptDatabaseBalance_WhenAccountWasChangedElsewhere() {
+        when(accountRepository.findByAccountName(ACCOUNT))
+                .thenReturn(Optional.of(new Account(ACCOUNT, new BigDecimal("100.00"))))
+                .thenReturn(Optional.of(new Account(ACCOUNT, new BigDecimal("150.00"))));
+        fundLedger.tryDebit(ACCOUNT, new BigDecimal("10.00"));
+
+        fundLedger.reconcile();
+
+        assertEquals(new BigDecimal("140.00"), fundLedger.getCommittedBalance(ACCOUNT));
+        assertEquals(new BigDecimal("140.00"), fundLedger.getAvailableBalance(ACCOUNT));
+        assertEquals(new BigDecimal("-10.00"), fundLedger.getPendingDelta(ACCOUNT));
+    }
+
+    @Test
+    void tryDebit_ShouldThrow_WhenAccountDoesNotExist() {
+        when(accountRepository.findByAccountName("Unknown")).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> fundLedger.tryDebit("Unknown", BigDecimal.ONE));
+    }
+
+    private static void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,102 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.Keyword;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordIndexTest {
+
+    private KeywordIndex keywordIndex;
+
+    @BeforeEach
+    void setUp() {
+        keywordIndex = new KeywordIndex();
+        keywordIndex.rebuild(List.of(
+                new Keyword(1L, "spring"),
+                new Keyword(2L, "Java"),
+                new Keyword(3L, "javascript"),
+                new Keyword(4L, "programming"),
+                new Keyword(5L, "real estate")
+        ));
+    }
+
+    @Test
+    void search_ShouldReturnSortedSubstringMatches_IgnoringCase() {
+        assertThat(texts(keywordIndex.search("JAV", 10))).containsExactly("Java", "javascript");
+        assertThat(texts(keywordIndex.search("ing", 10))).containsExactly("programming", "spring");
+        assertThat(texts(keywordIndex.search("l e", 10))).containsExactly("real estate");
+    }
+
+    @Test
+    void search_ShouldHandleShortQueries() {
+        assertThat(texts(keywordIndex.search("a", 10))).containsExactly("Java", "javascript", "programming", "real estate");
+        assertThat(texts(keywordIndex.search("pr", 10))).containsExactly("programming", "spring");
+    }
+
+    @Test
+    void search_ShouldReturnEmptyList_WhenNothingMatches() {
+        assertThat(keywordIndex.search("xyz", 10)).isEmpty();
+        assertThat(keywordIndex.search("javax", 10)).isEmpty();
+    }
+
+    @Test
+    void search_ShouldIncludeKeywordsAddedAfterBuild() {
+        keywordIndex.add(new Keyword(6L, "jakarta"));
+
+        assertThat(texts(keywordIndex.search("ja", 10))).containsExactly("Java", "jakarta", "javascript");
+        assertThat(keywordIndex.size()).isEqualTo(6);
+    }
+
+    @Test
+    void search_ShouldServeNewText_WhenKeywordReplaced() {
+        keywordIndex.add(new Keyword(6L, "jakarta"));
+
+        keywordIndex.replace(new Keyword(2L, "Kotlin"));
+        keywordIndex.replace(new Keyword(6L, "jdk"));
+
+        assertThat(texts(keywordIndex.search("ja", 10))).containsExactly("javascript");
+        assertThat(texts(keywordIndex.search("k", 10))).containsExactly("Kotlin", "jdk");
+        assertThat(keywordIndex.size()).isEqualTo(6);
+    }
+
+    @Test
+    void search_ShouldSkipRemovedKeywords() {
+        keywordIndex.add(new Keyword(6L, "jakarta"));
+
+        keywordIndex.remove(2L);
+        keywordIndex.remove(6L);
+
+        assertThat(texts(keywordIndex.search("ja", 10))).containsExactly("javascript");
+        assertThat(keywordIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    void search_ShouldMatchBruteForceResults_OnLargeVocabulary() {
+        List<Keyword> keywords = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            keywords.add(new Keyword(i, "kw" + Integer.toString(i * 7919, 36)));
+        }
+        keywordIndex.rebuild(keywords.subList(0, 4000));
+        keywords.subList(4000, 5000).forEach(keywordIndex::add);
+
+        for (String query : List.of("k", "a1", "zz", "b3c", "kw1")) {
+            List<String> expected = keywords.stream()
+                    .map(Keyword::getKeywordText)
+                    .filter(text -> text.toLowerCase(Locale.ROOT).contains(query))
+                    .sorted()
+                    .limit(10)
+                    .toList();
+            assertThat(texts(keywordIndex.search(query, 10))).as(query).isEqualTo(expected);
+        }
+    }
+
+    private static List<String> texts(List<Keyword> keywords) {
+        return keywords.stream().map(Keyword::getKeywordText).toList();
+    }
+}
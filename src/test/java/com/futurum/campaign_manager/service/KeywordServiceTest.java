@@ -24,6 +24,9 @@ class KeywordServiceTest {
     @Mock
     private KeywordRepository keywordRepository;
 
+    @Mock
+    private KeywordIndex keywordIndex;
+
     @InjectMocks
     private KeywordService keywordService;
 
@@ -180,4 +183,33 @@ class KeywordServiceTest {
                 .findTop10ByKeywordTextContainingIgnoreCaseOrderByKeywordText(query);
     }
 
-}
\ No newline at end of file
+    @Test
+    void searchKeywords_ShouldUseIndex_WhenIndexIsReady() {
+        // Given
+        when(keywordIndex.isReady()).thenReturn(true);
+        when(keywordIndex.search("java", 10)).thenReturn(Arrays.asList(
+                new Keyword(1L, "java"),
+                new Keyword(3L, "javascript")
+        ));
+
+        // When
+        List<KeywordDTO> result = keywordService.searchKeywords(" java ");
+
+        // Then
+        assertThat(result).extracting(KeywordDTO::getKeywordText).containsExactly("java", "javascript");
+        verify(keywordRepository, never())
+                .findTop10ByKeywordTextContainingIgnoreCaseOrderByKeywordText(anyString());
+    }
+
+    @Test
+    void buildSearchIndex_ShouldRebuildIndexFromAllKeywords() {
+        // Given
+        when(keywordRepository.findAll()).thenReturn(sampleKeywords);
+
+        // When
+        keywordService.buildSearchIndex();
+
+        // Then
+        verify(keywordIndex).rebuild(sampleKeywords);
+    }
+}
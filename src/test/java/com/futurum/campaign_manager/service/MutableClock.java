@@ -0,0 +1,38 @@
+package com.futurum.campaign_manager.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Simulated clock that only moves when a test advances it.
+ */
+class MutableClock extends Clock {
+
+    private volatile Instant instant;
+
+    MutableClock(Instant instant) {
+        this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("Simulated clock is UTC only");
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,82 @@
+package com.futurum.campaign_manager.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    private TimerWheel<String> wheel;
+    private List<String> expired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimerWheel<>(100, 8, 1_000);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    void advance_ShouldExpireOnlyItemsThatAreDue() {
+        wheel.schedule("soon", 1_250);
+        wheel.schedule("later", 1_500);
+
+        wheel.advance(1_299, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(1_300, expired::add);
+        assertThat(expired).containsExactly("soon");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void advance_ShouldKeepItemsDueAfterMoreThanOneRevolution() {
+        // 8 slots of 100 ms: the deadline maps to the slot of 1 300 ms
+        wheel.schedule("next round", 2_100);
+
+        wheel.advance(1_300, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(2_100, expired::add);
+        assertThat(expired).containsExactly("next round");
+    }
+
+    @Test
+    void advance_ShouldExpireEverythingAfterLongPause() {
+        wheel.schedule("a", 1_100);
+        wheel.schedule("b", 1_700);
+        wheel.schedule("c", 3_000);
+
+        wheel.advance(60_000, expired::add);
+
+        assertThat(expired).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void schedule_ShouldNeverExpireBeforeNextTick() {
+        wheel.schedule("overdue", 0);
+
+        wheel.advance(1_099, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(1_100, expired::add);
+        assertThat(expired).containsExactly("overdue");
+    }
+
+    @Test
+    void advance_ShouldAllowRescheduleFromCallback() {
+        wheel.schedule("repeating", 1_100);
+
+        wheel.advance(1_100, item -> {
+            expired.add(item);
+            wheel.schedule(item, 1_200);
+        });
+        wheel.advance(1_200, expired::add);
+
+        assertThat(expired).containsExactly("repeating", "repeating");
+    }
+}
@@ -0,0 +1,74 @@
+package com.futurum.campaign_manager.service;
+
+import com.futurum.campaign_manager.model.Town;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TownIndexTest {
+
+    private TownIndex townIndex;
+
+    @BeforeEach
+    void setUp() {
+        townIndex = new TownIndex();
+        townIndex.rebuild(List.of(
+                town(1L, "Kraków"),
+                town(2L, "Kraśnik"),
+                town(3L, "Warszawa"),
+                town(4L, "New York"),
+                town(5L, "York"),
+                town(6L, "Łódź")
+        ));
+    }
+
+    @Test
+    void search_ShouldMatchPrefixIgnoringCaseAndDiacritics() {
+        assertThat(names(townIndex.search("KRA", 10))).containsExactly("Kraków", "Kraśnik");
+        assertThat(names(townIndex.search("krakow", 10))).containsExactly("Kraków");
+        assertThat(names(townIndex.search("lodz", 10))).containsExactly("Łódź");
+    }
+
+    @Test
+    void search_ShouldRankFullNameMatchesBeforeInnerWordMatches() {
+        assertThat(names(townIndex.search("york", 10))).containsExactly("York", "New York");
+    }
+
+    @Test
+    void search_ShouldApplyLimit() {
+        assertThat(names(townIndex.search("", 3))).containsExactly("Kraków", "Kraśnik", "Łódź");
+        assertThat(townIndex.search("kra", 1)).hasSize(1);
+    }
+
+    @Test
+    void search_ShouldIncludeTownsAddedAfterBuild() {
+        townIndex.add(town(7L, "Kraljevo"));
+
+        assertThat(names(townIndex.search("kra", 10))).containsExactly("Kraków", "Kraljevo", "Kraśnik");
+    }
+
+    @Test
+    void search_ShouldSkipRemovedTowns() {
+        townIndex.remove(1L);
+
+        assertThat(names(townIndex.search("kra", 10))).containsExactly("Kraśnik");
+    }
+
+    @Test
+    void search_ShouldReturnEmptyList_WhenNothingMatches() {
+        assertThat(townIndex.search("zz", 10)).isEmpty();
+    }
+
+    private static Town town(Long id, String name) {
+        Town town = new Town(name, null);
+        town.setId(id);
+        return town;
+    }
+
+    private static List<String> names(List<Town> towns) {
+        return towns.stream().map(Town::getTownName).toList();
+    }
+}
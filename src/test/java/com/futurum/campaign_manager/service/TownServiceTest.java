@@ -24,6 +24,9 @@ class TownServiceTest {
     @Mock
     private TownRepository townRepository;
 
+    @Mock
+    private TownIndex townIndex;
+
     @InjectMocks
     private TownService townService;
 
@@ -54,4 +57,50 @@ class TownServiceTest {
 
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void searchTowns_ShouldUseIndex_WhenIndexIsReady() {
+        // Given
+        when(townIndex.isReady()).thenReturn(true);
+        when(townIndex.search("kra", 5)).thenReturn(List.of(new Town("Kraków", "30-001")));
+
+        // When
+        List<TownDTO> result = townService.searchTowns(" kra ", 5);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("Kraków", result.get(0).getTownName());
+        verify(townRepository, never()).findByTownNameContainingIgnoreCaseOrderByTownName(anyString());
+    }
+
+    @Test
+    void searchTowns_ShouldFallBackToRepository_WhenIndexIsNotReady() {
+        // Given
+        when(townRepository.findByTownNameContainingIgnoreCaseOrderByTownName("war"))
+                .thenReturn(List.of(new Town("Warszawa", "00-001")));
+
+        // When
+        List<TownDTO> result = townService.searchTowns("war", null);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("Warszawa", result.get(0).getTownName());
+    }
+
+    @Test
+    void searchTowns_ShouldCapLimit() {
+        // Given
+        when(townIndex.isReady()).thenReturn(true);
+
+        // When
+        townService.searchTowns("a", 1000);
+
+        // Then
+        verify(townIndex).search("a", TownService.MAX_SEARCH_LIMIT);
+    }
+
+    @Test
+    void searchTowns_ShouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> townService.searchTowns("a", 0));
+    }
 }
\ No newline at end of file